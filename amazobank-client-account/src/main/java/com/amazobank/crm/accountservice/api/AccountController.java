@@ -5,7 +5,6 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,10 +27,17 @@ import com.amazobank.crm.accountservice.api.dto.CreateAccountRequest;
 import com.amazobank.crm.accountservice.api.dto.UpdateAccountRequest;
 import com.amazobank.crm.accountservice.domain.Account;
 import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.UuidV7;
 import com.amazobank.crm.accountservice.service.AccountMapper;
 import com.amazobank.crm.accountservice.service.AccountService;
+import com.amazobank.crm.accountservice.service.AuditAction;
+import com.amazobank.crm.accountservice.service.AuditLog;
+import com.amazobank.crm.accountservice.service.ClientDirectory;
+import com.amazobank.crm.accountservice.service.ClientDirectory.ClientRef;
 import com.amazobank.crm.accountservice.service.SqsService;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController
 @RequestMapping("/api/accounts")
 public class AccountController {
@@ -42,15 +48,27 @@ public class AccountController {
     private AccountService service;
 
     @Autowired SqsService sqsService;
+
+    @Autowired
+    private JsonCache jsonCache;
+
+    @Autowired
+    private ClientDirectory clientDirectory;
+
+    @Autowired
+    private AuditLog auditLog;
+
     /**
-     * Retrieve all accounts managed by the agent
+     * Retrieve all accounts managed by the agent, or only those of one client when clientId is given
      */
     @GetMapping
     public ResponseEntity<List<AccountDto>> getAll(@RequestParam(required = false) String clientId, Authentication authentication) {
         String agentId = authentication.getName();
                 
         log.info("Fetching all accounts for agent: {}", agentId);
-        List<Account> accounts = service.findByAgentId(agentId);
+        List<Account> accounts = clientId == null
+                ? service.findByAgentId(agentId)
+                : service.findByAgentIdAndClientId(agentId, clientId);
         log.debug("Found {} accounts for agent: {}", accounts.size(), agentId);
 
         return ResponseEntity.ok(
@@ -64,7 +82,7 @@ public class AccountController {
      * Retrieve one account by ID (restricted to managing agent).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getOne(@PathVariable String id, Authentication authentication) {
+    public ResponseEntity<?> getOne(@PathVariable String id, HttpServletRequest request, Authentication authentication) {
         String agentId = authentication.getName();
 
         log.info("Fetching account with id: {}", id);
@@ -77,8 +95,7 @@ public class AccountController {
 
         Account acc = result.get();
         if(!agentId.equals(acc.getAgentId())) {
-            log.warn("Forbidden access attempt: agent {} tried to access account {} owned by agent {}", 
-                     agentId, id, acc.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "account", id, agentId, "read; owner " + acc.getAgentId());
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(Map.of(
                     "error", "Forbidden",
@@ -87,21 +104,39 @@ public class AccountController {
         }
 
         log.debug("Successfully retrieved account: {}", id);
-        return ResponseEntity.ok(AccountMapper.toDto(acc));
+        return jsonCache.ok(request, "accounts/" + id, acc.getVersion(), () -> AccountMapper.toDto(acc));
     }
 
     /**
      * Create a new account (agent ID inferred from JWT).
      */
     @PostMapping
-    public ResponseEntity<AccountDto> create(@RequestBody CreateAccountRequest req, Authentication authentication) {
+    public ResponseEntity<?> create(@RequestBody CreateAccountRequest req, Authentication authentication) {
         String agentId = authentication.getName();
 
         log.info("Creating new account for agent: {}, clientId: {}, accountType: {}", 
                  agentId, req.clientId(), req.accountType());
 
+        // Clients that have not replicated yet are accepted as before; known clients are checked locally.
+        Optional<ClientRef> client = clientDirectory.find(req.clientId());
+        if (client.isPresent() && !agentId.equals(client.get().agentId())) {
+            auditLog.record(AuditAction.Forbidden, "client", req.clientId(), agentId, "open account; owner " + client.get().agentId());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of(
+                    "error", "Forbidden",
+                    "message", "Client is not managed by this agent."
+                ));
+        }
+        if (client.isPresent() && client.get().isDeleted()) {
+            return ResponseEntity.badRequest()
+                .body(Map.of(
+                    "error", "Bad Request",
+                    "message", "Client has been deleted."
+                ));
+        }
+
         Account acc = Account.builder()
-                .accountId(UUID.randomUUID().toString())
+                .accountId(UuidV7.next().toString())
                 .clientId(req.clientId())
                 .agentId(agentId)
                 .accountType(req.accountType())
@@ -113,9 +148,13 @@ public class AccountController {
                 .build();
 
         Account saved = service.save(acc);
-        log.info("Account created successfully: accountId={}, clientId={}, agentId={}", 
-                 saved.getAccountId(), saved.getClientId(), saved);
-        sqsService.sendEmailNotification(req.clientEmail(), "Your account was created successfully on " + LocalDateTime.now());
+        auditLog.record(AuditAction.Created, "account", saved.getAccountId(), agentId, "client " + saved.getClientId());
+        String clientEmail = req.clientEmail() != null ? req.clientEmail() : client.map(ClientRef::email).orElse(null);
+        if (clientEmail != null) {
+            sqsService.sendEmailNotification(clientEmail, "Your account was created successfully on " + LocalDateTime.now());
+        } else {
+            log.warn("No email known for client {}; skipping account creation notification", req.clientId());
+        }
         return ResponseEntity.status(201)
                 .body(AccountMapper.toDto(saved));
     }
@@ -144,8 +183,7 @@ public class AccountController {
 
         Account acc = accOpt.get();
         if (!acc.getAgentId().equals(agentId)) {
-            log.warn("Update forbidden: agent {} tried to update account {} owned by agent {}", 
-                     agentId, id, acc.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "account", id, agentId, "update; owner " + acc.getAgentId());
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(Map.of(
                     "error", "Forbidden",
@@ -161,8 +199,9 @@ public class AccountController {
         if (req.branchId() != null) acc.setBranchId(req.branchId());
         if (req.openingDate() != null) acc.setOpeningDate(req.openingDate());
 
-        log.info("Account updated successfully: {}", id);
-        return ResponseEntity.ok(AccountMapper.toDto(service.save(acc)));
+        Account saved = service.save(acc);
+        auditLog.record(AuditAction.Updated, "account", id, agentId);
+        return ResponseEntity.ok(AccountMapper.toDto(saved));
     }
 
     /**
@@ -182,8 +221,7 @@ public class AccountController {
 
         Account acc = accOpt.get();
         if (!acc.getAgentId().equals(agentId)) {
-            log.warn("Delete forbidden: agent {} tried to delete account {} owned by agent {}", 
-                     agentId, id, acc.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "account", id, agentId, "delete; owner " + acc.getAgentId());
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(Map.of(
                     "error", "Forbidden",
@@ -192,7 +230,7 @@ public class AccountController {
             );
         }
         service.softDelete(acc);
-        log.info("Account deleted successfully: {}", id);
+        auditLog.record(AuditAction.Deleted, "account", id, agentId);
         return ResponseEntity.noContent().build();
     }
 }
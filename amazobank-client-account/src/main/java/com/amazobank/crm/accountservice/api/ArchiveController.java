@@ -0,0 +1,56 @@
+package com.amazobank.crm.accountservice.api;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.amazobank.crm.accountservice.domain.ArchivedAccount;
+import com.amazobank.crm.accountservice.domain.UuidV7;
+import com.amazobank.crm.accountservice.repository.ArchivedAccountRepository;
+
+/**
+ * Read-only lookups of archived accounts, for administrators.
+ */
+@RestController
+@RequestMapping("/api/admin/archive/accounts")
+public class ArchiveController {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveController.class);
+
+    @Autowired
+    private ArchivedAccountRepository repo;
+
+    /**
+     * Archived accounts of a client.
+     */
+    @GetMapping
+    public ResponseEntity<List<ArchivedAccount>> getByClient(@RequestParam String clientId, Authentication authentication) {
+        log.info("Admin {} looking up archived accounts of client: {}", authentication.getName(), clientId);
+        return ResponseEntity.ok(repo.findByClientId(clientId));
+    }
+
+    /**
+     * One archived account by ID.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getOne(@PathVariable String id, Authentication authentication) {
+        log.info("Admin {} looking up archived account: {}", authentication.getName(), id);
+        Optional<ArchivedAccount> found = UuidV7.isValid(id) ? repo.findById(id.toLowerCase(Locale.ROOT)) : Optional.empty();
+        if (found.isEmpty()) {
+            return ResponseEntity.status(404).body(Map.of("message", "Archived account not found"));
+        }
+        return ResponseEntity.ok(found.get());
+    }
+}
@@ -0,0 +1,53 @@
+package com.amazobank.crm.accountservice.api;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opens a span named after the controller method, such as "account-controller.create", for each handled request.
+ *
+ * It sits under the HTTP server span, so repository and SQS spans are grouped by the handler that issued them.
+ */
+public class HandlerObservationInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE = HandlerObservationInterceptor.class.getName() + ".scope";
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public HandlerObservationInterceptor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            String name = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+            Observation observation = Observation.createNotStarted("http.handler",
+                            observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                    .contextualName(name)
+                    .lowCardinalityKeyValue("handler", name)
+                    .start();
+            request.setAttribute(SCOPE, observation.openScope());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SCOPE) instanceof Observation.Scope scope) {
+            request.removeAttribute(SCOPE);
+            Observation observation = scope.getCurrentObservation();
+            scope.close();
+            if (ex != null) {
+                observation.error(ex);
+            }
+            observation.stop();
+        }
+    }
+}
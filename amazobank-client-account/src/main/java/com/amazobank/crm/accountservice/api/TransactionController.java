@@ -1,8 +1,10 @@
 package com.amazobank.crm.accountservice.api;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
@@ -10,18 +12,23 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.amazobank.crm.accountservice.api.dto.TransactionDto;
 import com.amazobank.crm.accountservice.domain.Account;
 import com.amazobank.crm.accountservice.domain.Transaction;
 import com.amazobank.crm.accountservice.service.AccountService;
+import com.amazobank.crm.accountservice.service.AuditAction;
+import com.amazobank.crm.accountservice.service.AuditLog;
 import com.amazobank.crm.accountservice.service.TransactionMapper;
 import com.amazobank.crm.accountservice.service.TransactionService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController
 @RequestMapping("/api/accounts/{accountId}/transactions")
 public class TransactionController {
@@ -30,14 +37,22 @@ public class TransactionController {
 
     private final AccountService accountService;
     private final TransactionService transactionService;
+    private final JsonCache jsonCache;
+    private final AuditLog auditLog;
 
-    public TransactionController(AccountService accountService, TransactionService transactionService) {
+    public TransactionController(AccountService accountService, TransactionService transactionService, JsonCache jsonCache,
+            AuditLog auditLog) {
         this.accountService = accountService;
         this.transactionService = transactionService;
+        this.jsonCache = jsonCache;
+        this.auditLog = auditLog;
     }
 
     @GetMapping
-    public ResponseEntity<List<TransactionDto>> getTransactions(@PathVariable @NonNull String accountId, Authentication authentication) {
+    public ResponseEntity<?> getTransactions(@PathVariable @NonNull String accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request, Authentication authentication) {
         log.info("Fetching transactions for account: {}", accountId);
 
         Optional<Account> accOpt = accountService.findById(accountId);
@@ -49,15 +64,20 @@ public class TransactionController {
         String agentId = authentication.getName();
         Account account = accOpt.get();
         if(!account.getAgentId().equals(agentId)) {
-            log.warn("Forbidden access attempt: agent {} tried to access transactions for account {} owned by agent {}", 
-                     agentId, accountId, account.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "account", accountId, agentId, "list transactions; owner " + account.getAgentId());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        List<Transaction> transactions = transactionService.findByAccountId(accountId);
-        log.warn("Forbidden access attempt: agent {} tried to access transactions for account {} owned by agent {}", 
-                     agentId, accountId, account.getAgentId());
-        return ResponseEntity.ok(TransactionMapper.toDto(transactions));
+        boolean ranged = from != null || to != null;
+        // A date range lets MySQL skip the monthly partitions outside it.
+        List<Transaction> transactions = ranged
+                ? transactionService.findByAccountId(accountId, from, to)
+                : transactionService.findByAccountId(accountId);
+        // Transactions have no version column; only their status changes once they are written.
+        String version = account.getVersion() == null ? null : JsonCache.fingerprint(transactions.stream()
+                .map(t -> t.getTransactionId() + ":" + t.getStatus()));
+        String key = "transactions/" + accountId + (ranged ? "?from=" + from + "&to=" + to : "");
+        return jsonCache.ok(request, key, version, () -> TransactionMapper.toDto(transactions));
     }
 
     @GetMapping("/{transactionId}")
@@ -80,8 +100,7 @@ public class TransactionController {
         Account account = accOpt.get();
         if(!account.getAgentId().equals(agentId)) {
             // The agent does not manage the account
-            log.warn("Forbidden access attempt: agent {} tried to access transaction {} for account {} owned by agent {}", 
-                     agentId, transactionId, accountId, account.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "transaction", transactionId, agentId, "account " + accountId + "; owner " + account.getAgentId());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
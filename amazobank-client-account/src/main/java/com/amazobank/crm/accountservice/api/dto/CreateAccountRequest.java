@@ -8,7 +8,7 @@ import java.time.LocalDate;
 
 public record CreateAccountRequest(
     @NotBlank String clientId,
-    @NotBlank String clientEmail,
+    String clientEmail, // Optional when the client is already in the local client directory
     @NotNull AccountType accountType,
     @NotNull Double initialDeposit,
     @NotBlank String currency,
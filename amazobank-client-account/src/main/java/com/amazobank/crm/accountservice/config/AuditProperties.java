@@ -0,0 +1,102 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    /**
+     * Where drained audit events are written: log (the "audit" logger) or jdbc (the AuditEvents table).
+     */
+    private String sink = "log";
+
+    /**
+     * Value written to the Source column by the jdbc sink.
+     */
+    private String source = "client-account";
+
+    /**
+     * Number of preallocated slots in the ring buffer, rounded up to a power of two.
+     */
+    private int capacity = 8192;
+
+    /**
+     * Largest number of events handed to the sink in one write.
+     */
+    private int batchSize = 256;
+
+    /**
+     * How often the drain thread empties the ring buffer.
+     */
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * What a request thread does when the buffer is full: drop (discard the event) or block.
+     */
+    private String overflow = "drop";
+
+    /**
+     * Longest a request thread waits for a free slot under the block policy before dropping the event.
+     */
+    private Duration blockTimeout = Duration.ofMillis(5);
+
+    public String getSink() {
+        return sink;
+    }
+
+    public void setSink(String sink) {
+        this.sink = sink;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public String getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(String overflow) {
+        this.overflow = overflow;
+    }
+
+    public Duration getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    public void setBlockTimeout(Duration blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+}
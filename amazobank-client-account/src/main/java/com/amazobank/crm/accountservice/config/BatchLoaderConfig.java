@@ -0,0 +1,21 @@
+package com.amazobank.crm.accountservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.repository.AccountRepository;
+import com.amazobank.crm.accountservice.service.BatchLoader;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class BatchLoaderConfig {
+
+    @Bean(destroyMethod = "close")
+    public BatchLoader<String, Account> accountBatchLoader(AccountRepository repo, BatchLoaderProperties properties,
+            MeterRegistry meterRegistry) {
+        return new BatchLoader<>("accounts", repo::findAllById, Account::getAccountId,
+                properties.getWindow(), properties.getMaxBatchSize(), properties.getThreads(), meterRegistry);
+    }
+}
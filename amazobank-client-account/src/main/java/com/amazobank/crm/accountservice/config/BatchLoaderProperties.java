@@ -0,0 +1,50 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "batch-loader")
+public class BatchLoaderProperties {
+
+    /**
+     * How long the first lookup in a batch waits for others to join it.
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * Send the batch early once this many lookups are queued.
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * Threads running batched queries, each holding one connection while it does.
+     */
+    private int threads = 2;
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+}
@@ -0,0 +1,35 @@
+package com.amazobank.crm.accountservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.amazobank.crm.accountservice.service.LocalObjectStore;
+import com.amazobank.crm.accountservice.service.ObjectStore;
+import com.amazobank.crm.accountservice.service.S3ObjectStore;
+
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.services.s3.S3Client;
+
+@Configuration
+public class ColdStorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cold-storage", name = "store", havingValue = "s3")
+    public ObjectStore s3ObjectStore(ColdStorageProperties properties) {
+        S3Client s3 = S3Client.builder()
+            .credentialsProvider(
+                DefaultCredentialsProvider.builder()
+                    .asyncCredentialUpdateEnabled(true)
+                    .reuseLastProviderEnabled(true)
+                    .build()
+            ).build();
+        return new S3ObjectStore(s3, properties.getBucket(), properties.getPrefix());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cold-storage", name = "store", havingValue = "local", matchIfMissing = true)
+    public ObjectStore localObjectStore(ColdStorageProperties properties) {
+        return new LocalObjectStore(properties.getLocalDirectory());
+    }
+}
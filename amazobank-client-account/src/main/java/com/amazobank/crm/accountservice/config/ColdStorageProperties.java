@@ -0,0 +1,157 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cold-storage")
+public class ColdStorageProperties {
+
+    /**
+     * Whether completed transactions are archived to the object store. Reads always consult segments
+     * that were archived before, so turning this off only stops new archiving.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Completed transactions dated before the first day of the month this many months ago are archived.
+     */
+    private int afterMonths = 12;
+
+    /**
+     * Where segments are stored: local (a directory, for development and tests) or s3.
+     */
+    private String store = "local";
+
+    /**
+     * Root directory of the local store.
+     */
+    private Path localDirectory = Path.of(System.getProperty("java.io.tmpdir"), "amazobank-cold-storage");
+
+    /**
+     * Bucket of the s3 store.
+     */
+    private String bucket;
+
+    /**
+     * Key prefix of the s3 store.
+     */
+    private String prefix = "";
+
+    /**
+     * Most transactions written to one segment.
+     */
+    private int segmentRows = 50_000;
+
+    /**
+     * How often the archiver runs. The first run waits one interval after startup.
+     */
+    private Duration archiveInterval = Duration.ofMinutes(10);
+
+    /**
+     * How long an archived segment stays unsealed, with its rows still in Transactions, before they are
+     * deleted. It has to cover the time other tasks take to pick up the new segment.
+     */
+    private Duration sealDelay = Duration.ofMinutes(10);
+
+    /**
+     * How often each task reloads the segment index, in case it missed an invalidation.
+     */
+    private Duration indexRefreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Most archived transactions kept decoded in memory across all cached segments.
+     */
+    private long cacheMaxRows = 2_000_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getAfterMonths() {
+        return afterMonths;
+    }
+
+    public void setAfterMonths(int afterMonths) {
+        this.afterMonths = afterMonths;
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public Path getLocalDirectory() {
+        return localDirectory;
+    }
+
+    public void setLocalDirectory(Path localDirectory) {
+        this.localDirectory = localDirectory;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public int getSegmentRows() {
+        return segmentRows;
+    }
+
+    public void setSegmentRows(int segmentRows) {
+        this.segmentRows = segmentRows;
+    }
+
+    public Duration getArchiveInterval() {
+        return archiveInterval;
+    }
+
+    public void setArchiveInterval(Duration archiveInterval) {
+        this.archiveInterval = archiveInterval;
+    }
+
+    public Duration getSealDelay() {
+        return sealDelay;
+    }
+
+    public void setSealDelay(Duration sealDelay) {
+        this.sealDelay = sealDelay;
+    }
+
+    public Duration getIndexRefreshInterval() {
+        return indexRefreshInterval;
+    }
+
+    public void setIndexRefreshInterval(Duration indexRefreshInterval) {
+        this.indexRefreshInterval = indexRefreshInterval;
+    }
+
+    public long getCacheMaxRows() {
+        return cacheMaxRows;
+    }
+
+    public void setCacheMaxRows(long cacheMaxRows) {
+        this.cacheMaxRows = cacheMaxRows;
+    }
+}
@@ -0,0 +1,63 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "invalidation")
+public class InvalidationProperties {
+
+    /**
+     * How invalidation events reach other tasks: loopback (this task only) or jdbc.
+     */
+    private String transport = "loopback";
+
+    /**
+     * How long writes are buffered and coalesced before they are sent.
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * How often the jdbc transport checks for events from other tasks.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long the jdbc transport keeps events in the database.
+     */
+    private Duration retention = Duration.ofHours(1);
+
+    public String getTransport() {
+        return transport;
+    }
+
+    public void setTransport(String transport) {
+        this.transport = transport;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+}
@@ -0,0 +1,64 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@ConfigurationProperties(prefix = "jfr")
+public class JfrProperties {
+
+    /**
+     * JFR settings used for on-demand recordings: "default" or the more detailed "profile".
+     */
+    private String settings = "profile";
+
+    /**
+     * Length of a recording when the request does not give one.
+     */
+    private Duration defaultDuration = Duration.ofSeconds(60);
+
+    /**
+     * Longest recording that can be requested; longer requests are cut to this.
+     */
+    private Duration maxDuration = Duration.ofMinutes(5);
+
+    /**
+     * Upper bound on the data a recording keeps; the oldest data is discarded beyond it.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Duration getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public void setDefaultDuration(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,64 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.jwt.jwks")
+public class JwksProperties {
+
+    private String jwkSetUri;
+
+    /**
+     * Local copy of the key set used when the remote endpoint cannot be reached at startup.
+     */
+    private String bootstrapFile;
+
+    private Duration refreshInterval = Duration.ofHours(1);
+
+    private Duration minRefreshInterval = Duration.ofSeconds(30);
+
+    private Duration timeout = Duration.ofSeconds(3);
+
+    public String getJwkSetUri() {
+        return jwkSetUri;
+    }
+
+    public void setJwkSetUri(String jwkSetUri) {
+        this.jwkSetUri = jwkSetUri;
+    }
+
+    public String getBootstrapFile() {
+        return bootstrapFile;
+    }
+
+    public void setBootstrapFile(String bootstrapFile) {
+        this.bootstrapFile = bootstrapFile;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getMinRefreshInterval() {
+        return minRefreshInterval;
+    }
+
+    public void setMinRefreshInterval(Duration minRefreshInterval) {
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,114 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logback turbo filter that thins out high-volume log lines from the request path.
+ *
+ * For loggers under one of the configured prefixes, only one in every infoSampleRate INFO lines is kept,
+ * and WARN lines are limited to warnPerSecond. Both are counted per message template. Every call site logs a
+ * constant template, so each endpoint is sampled separately. The first WARN let through after some were
+ * suppressed is followed by a line giving the count. ERROR and below-INFO levels are never touched.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private final Map<String, Sampler> samplers = new ConcurrentHashMap<>();
+    private List<String> loggers = List.of();
+    private int infoSampleRate = 1;
+    private int warnPerSecond = 0;
+
+    /**
+     * Comma-separated logger name prefixes to sample.
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Keep one in this many INFO lines per template; 1 keeps them all.
+     */
+    public void setInfoSampleRate(int infoSampleRate) {
+        this.infoSampleRate = Math.max(1, infoSampleRate);
+    }
+
+    /**
+     * Most WARN lines per template per second; 0 means unlimited.
+     */
+    public void setWarnPerSecond(int warnPerSecond) {
+        this.warnPerSecond = Math.max(0, warnPerSecond);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || format == null || !isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        boolean info = level.levelInt == Level.INFO_INT && infoSampleRate > 1;
+        boolean warn = level.levelInt == Level.WARN_INT && warnPerSecond > 0;
+        if ((!info && !warn) || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Sampler sampler = samplers.computeIfAbsent(format, key -> new Sampler());
+        if (info) {
+            return sampler.infoCount.getAndIncrement() % infoSampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+
+        long suppressed = sampler.tryWarn(System.nanoTime() / 1_000_000_000L, warnPerSecond);
+        if (suppressed < 0) {
+            return FilterReply.DENY;
+        }
+        if (suppressed > 0) {
+            logger.warn("{} similar warnings were suppressed: {}", suppressed, format);
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private boolean sampled(String name) {
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Sampler {
+        final AtomicLong infoCount = new AtomicLong();
+        long second = Long.MIN_VALUE;
+        int warnings;
+        long suppressed;
+
+        /**
+         * @return -1 to drop this warning, otherwise the number dropped since the last one let through
+         */
+        synchronized long tryWarn(long now, int limit) {
+            if (now != second) {
+                second = now;
+                warnings = 0;
+            }
+            if (warnings >= limit) {
+                suppressed++;
+                return -1;
+            }
+            warnings++;
+            long dropped = suppressed;
+            suppressed = 0;
+            return dropped;
+        }
+    }
+}
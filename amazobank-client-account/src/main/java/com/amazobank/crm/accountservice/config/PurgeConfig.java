@@ -0,0 +1,66 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.amazobank.crm.accountservice.service.ObjectStore;
+import com.amazobank.crm.accountservice.service.PurgeJob;
+import com.amazobank.crm.accountservice.service.PurgeJob.KeyType;
+
+/**
+ * The rows this service purges. Each job is picked up by the PurgeEngine.
+ */
+@Configuration
+public class PurgeConfig {
+
+    @Bean
+    public PurgeJob idempotencyKeysPurge() {
+        return new PurgeJob("idempotencyKeys", "IdempotencyKeys", "KeyHash", KeyType.Text,
+                "ExpiresAt < ?", () -> new Object[] { Timestamp.from(Instant.now()) });
+    }
+
+    @Bean
+    public PurgeJob invalidationEventsPurge(InvalidationProperties properties) {
+        return new PurgeJob("invalidationEvents", "InvalidationEvents", "Id", KeyType.Number,
+                "CreatedAt < ?", () -> new Object[] { Timestamp.from(Instant.now().minus(properties.getRetention())) });
+    }
+
+    @Bean
+    public PurgeJob archivedAccountsPurge(PurgeProperties properties) {
+        return new PurgeJob("archivedAccounts", "AccountsArchive", "accountId", KeyType.Binary,
+                "archivedAt < ?", () -> new Object[] { Timestamp.from(Instant.now().minus(properties.getArchiveRetention())) });
+    }
+
+    @Bean
+    public PurgeJob archivedTransactionsPurge(PurgeProperties properties) {
+        return new PurgeJob("archivedTransactions", "TransactionsArchive", "TransactionID", KeyType.Binary,
+                "ArchivedAt < ?", () -> new Object[] { Timestamp.from(Instant.now().minus(properties.getArchiveRetention())) });
+    }
+
+    /**
+     * Cold-storage segments whose newest transaction is past the transaction retention window. The segment
+     * file is deleted first, so a failure leaves the index row behind for the next run to retry.
+     */
+    @Bean
+    public PurgeJob transactionSegmentsPurge(TransactionPartitionProperties partitions, ObjectStore objectStore) {
+        return new PurgeJob("transactionSegments", "TransactionSegments", "SegmentKey", KeyType.Text,
+                "SealedAt IS NOT NULL AND MaxDate < ?",
+                () -> new Object[] { Date.valueOf(YearMonth.now(ZoneOffset.UTC).minusMonths(partitions.getRetentionMonths()).atDay(1)) },
+                keys -> {
+                    for (Object key : keys) {
+                        try {
+                            objectStore.delete((String) key);
+                        } catch (IOException e) {
+                            throw new IllegalStateException("Failed to delete transaction segment " + key, e);
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,143 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "purge")
+public class PurgeProperties {
+
+    /**
+     * Whether expired rows are purged.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often every purge job runs. The first run waits one interval after startup.
+     */
+    private Duration interval = Duration.ofMinutes(15);
+
+    /**
+     * Most rows deleted per statement. Chunks start here and shrink while they run slower than the target latency.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Fewest rows deleted per statement, however slow the chunks get.
+     */
+    private int minChunkSize = 50;
+
+    /**
+     * Chunks slower than this halve the chunk size; faster ones grow it back.
+     */
+    private Duration targetLatency = Duration.ofMillis(100);
+
+    /**
+     * Pause after each chunk as a multiple of how long the chunk took, so slow chunks get a longer pause
+     * and the purge uses at most 1 / (1 + ratio) of the database's time.
+     */
+    private double sleepRatio = 1.0;
+
+    /**
+     * Longest pause between two chunks.
+     */
+    private Duration maxSleep = Duration.ofSeconds(5);
+
+    /**
+     * How long one job may run before it stops and resumes from its checkpoint on the next run.
+     */
+    private Duration maxRunTime = Duration.ofMinutes(5);
+
+    /**
+     * How long a task holds a job after starting it or finishing a chunk. Every task runs every job, so a
+     * job only runs on the task holding its lease; a lease left by a task that died expires after this.
+     */
+    private Duration lease = Duration.ofMinutes(2);
+
+    /**
+     * How long archived rows are kept before they are purged.
+     */
+    private Duration archiveRetention = Duration.ofDays(7 * 365);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    public void setMinChunkSize(int minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    public void setTargetLatency(Duration targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+    public double getSleepRatio() {
+        return sleepRatio;
+    }
+
+    public void setSleepRatio(double sleepRatio) {
+        this.sleepRatio = sleepRatio;
+    }
+
+    public Duration getMaxSleep() {
+        return maxSleep;
+    }
+
+    public void setMaxSleep(Duration maxSleep) {
+        this.maxSleep = maxSleep;
+    }
+
+    public Duration getMaxRunTime() {
+        return maxRunTime;
+    }
+
+    public void setMaxRunTime(Duration maxRunTime) {
+        this.maxRunTime = maxRunTime;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public Duration getArchiveRetention() {
+        return archiveRetention;
+    }
+
+    public void setArchiveRetention(Duration archiveRetention) {
+        this.archiveRetention = archiveRetention;
+    }
+}
@@ -0,0 +1,35 @@
+package com.amazobank.crm.accountservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * Whether requests are instrumented at all: the JDBC proxy, timed JSON serialization and the access log.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether the timings are also returned to the caller in a Server-Timing header.
+     */
+    private boolean exposeHeader = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isExposeHeader() {
+        return exposeHeader;
+    }
+
+    public void setExposeHeader(boolean exposeHeader) {
+        this.exposeHeader = exposeHeader;
+    }
+}
@@ -0,0 +1,64 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "soft-delete-archive")
+public class SoftDeleteArchiveProperties {
+
+    /**
+     * Whether soft-deleted rows are moved to the archive tables.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a row stays in its hot table after being soft-deleted. Until then it can still be restored
+     * by setting its status back.
+     */
+    private Duration grace = Duration.ofDays(30);
+
+    /**
+     * Rows moved per transaction.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * How often the archiver runs.
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getGrace() {
+        return grace;
+    }
+
+    public void setGrace(Duration grace) {
+        this.grace = grace;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+}
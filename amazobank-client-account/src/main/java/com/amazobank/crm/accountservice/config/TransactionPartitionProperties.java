@@ -0,0 +1,65 @@
+package com.amazobank.crm.accountservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "transaction-partitions")
+public class TransactionPartitionProperties {
+
+    /**
+     * Whether the maintenance job creates and detaches monthly partitions. It never runs against a
+     * database that does not partition Transactions, such as the embedded H2 used by tests.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How many months past the current one always have a partition of their own.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Months of transactions kept in the Transactions table, counting back from the current month. Older
+     * partitions are detached into standalone tables, and reads never look further back than this.
+     */
+    private int retentionMonths = 84;
+
+    /**
+     * How often the maintenance job runs.
+     */
+    private Duration maintenanceInterval = Duration.ofHours(6);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    public int getRetentionMonths() {
+        return retentionMonths;
+    }
+
+    public void setRetentionMonths(int retentionMonths) {
+        this.retentionMonths = retentionMonths;
+    }
+
+    public Duration getMaintenanceInterval() {
+        return maintenanceInterval;
+    }
+
+    public void setMaintenanceInterval(Duration maintenanceInterval) {
+        this.maintenanceInterval = maintenanceInterval;
+    }
+}
@@ -3,6 +3,10 @@ package com.amazobank.crm.accountservice.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Type;
+
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,10 +16,11 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Account {
     @Id
-    @Column(length = 36)
+    @Type(UuidBinaryType.class)
+    @Column(columnDefinition = "BINARY(16)")
     private String accountId;
 
     @Column(nullable = false, length = 36)
@@ -24,12 +29,12 @@ public class Account {
     @Column(nullable = false, length = 36)
     private String agentId;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Convert(converter = AccountType.CodeConverter.class)
+    @Column(nullable = false)
     private AccountType accountType;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Convert(converter = AccountStatus.CodeConverter.class)
+    @Column(nullable = false)
     private AccountStatus accountStatus;
 
     @Column(nullable = false)
@@ -44,6 +49,17 @@ public class Account {
     @Column(length = 20)
     private String branchId;
 
+    /**
+     * When the account was soft-deleted; null unless its status is Deleted.
+     */
+    @Column
+    private Instant deletedAt;
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = false)
     @Builder.Default
     private List<Transaction> transactions = new ArrayList<>();
@@ -1,5 +1,25 @@
 package com.amazobank.crm.accountservice.domain;
 
-public enum AccountStatus {
-    Active, Inactive, Pending, Deleted
+public enum AccountStatus implements CodedEnum {
+    Active(1),
+    Inactive(2),
+    Pending(3),
+    Deleted(4);
+
+    private final byte code;
+
+    AccountStatus(int code) {
+        this.code = (byte) code;
+    }
+
+    @Override
+    public byte code() {
+        return code;
+    }
+
+    public static class CodeConverter extends CodedEnumConverter<AccountStatus> {
+        public CodeConverter() {
+            super(AccountStatus.class);
+        }
+    }
 }
@@ -1,5 +1,24 @@
 package com.amazobank.crm.accountservice.domain;
 
-public enum AccountType {
-    Savings, Checking, Business
+public enum AccountType implements CodedEnum {
+    Savings(1),
+    Checking(2),
+    Business(3);
+
+    private final byte code;
+
+    AccountType(int code) {
+        this.code = (byte) code;
+    }
+
+    @Override
+    public byte code() {
+        return code;
+    }
+
+    public static class CodeConverter extends CodedEnumConverter<AccountType> {
+        public CodeConverter() {
+            super(AccountType.class);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package com.amazobank.crm.accountservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import org.hibernate.annotations.Type;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * An account that was soft-deleted longer ago than the archive grace period, as moved out of Accounts.
+ * Rows here are written by the archiver only and are never changed afterwards.
+ */
+@Entity
+@Table(name = "AccountsArchive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedAccount {
+    @Id
+    @Type(UuidBinaryType.class)
+    @Column(columnDefinition = "BINARY(16)")
+    private String accountId;
+
+    @Column(nullable = false, length = 36)
+    private String clientId;
+
+    @Column(nullable = false, length = 36)
+    private String agentId;
+
+    @Convert(converter = AccountType.CodeConverter.class)
+    @Column(nullable = false)
+    private AccountType accountType;
+
+    @Convert(converter = AccountStatus.CodeConverter.class)
+    @Column(nullable = false)
+    private AccountStatus accountStatus;
+
+    @Column(nullable = false)
+    private LocalDate openingDate;
+
+    @Column(nullable = false)
+    private Double initialDeposit;
+
+    @Column(nullable = false, length = 10)
+    private String currency;
+
+    @Column(length = 20)
+    private String branchId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
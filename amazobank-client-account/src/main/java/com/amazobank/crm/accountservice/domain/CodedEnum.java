@@ -0,0 +1,12 @@
+package com.amazobank.crm.accountservice.domain;
+
+/**
+ * An enum stored as a TINYINT code instead of its name.
+ *
+ * Codes are part of the schema: once a code has been written it must keep its meaning, so new
+ * constants take a new code and removed constants leave theirs unused.
+ */
+public interface CodedEnum {
+
+    byte code();
+}
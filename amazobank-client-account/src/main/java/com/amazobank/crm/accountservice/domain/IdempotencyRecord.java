@@ -0,0 +1,51 @@
+package com.amazobank.crm.accountservice.domain;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response stored for an Idempotency-Key so that retries of the same request replay it instead of running again.
+ *
+ * The key column is a digest of the agent, request path and client-supplied key, and the request column
+ * is a digest of the request body, so neither grows with the size of the client's values.
+ */
+@Entity
+@Table(name = "IdempotencyKeys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "KeyHash", length = 43, nullable = false)
+    private String keyHash;
+
+    @Column(name = "RequestHash", length = 43, nullable = false)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Status", length = 12, nullable = false)
+    private IdempotencyStatus status;
+
+    @Column(name = "ResponseStatus")
+    private Integer responseStatus;
+
+    @Column(name = "ContentType", length = 100)
+    private String contentType;
+
+    @Lob
+    @Column(name = "ResponseBody", length = 16_777_215) // MEDIUMBLOB, as created by the migration
+    private byte[] responseBody;
+
+    @Column(name = "CreatedAt", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "ExpiresAt", nullable = false)
+    private Instant expiresAt;
+}
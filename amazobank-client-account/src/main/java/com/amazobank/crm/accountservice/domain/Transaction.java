@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.Type;
+
 import java.time.LocalDate;
 
 @Entity
@@ -17,14 +19,15 @@ import java.time.LocalDate;
 public class Transaction {
 
     @Id
-    @Column(name = "TransactionID", length = 36, nullable = false)
+    @Type(UuidBinaryType.class)
+    @Column(name = "TransactionID", columnDefinition = "BINARY(16)", nullable = false)
     private String transactionId;
 
     @Column(name = "ClientID", length = 36, nullable = false)
     private String clientId;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "AccountID", nullable = false)
+    @JoinColumn(name = "AccountID", columnDefinition = "BINARY(16)", nullable = false)
     private Account account;
 
     @Enumerated(EnumType.STRING)
@@ -37,7 +40,7 @@ public class Transaction {
     @Column(name = "Date", nullable = false)
     private LocalDate date;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TransactionStatus.CodeConverter.class)
     @Column(name = "Status", nullable = false)
     private TransactionStatus status;
 }
@@ -0,0 +1,58 @@
+package com.amazobank.crm.accountservice.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Index entry for a segment of archived transactions in the object store.
+ *
+ * MinDate and MaxDate let a read skip every segment outside the requested range, and MinTransactionId and
+ * MaxTransactionId let a lookup by id skip every segment that cannot hold it. AccountFilter, a Bloom
+ * filter over the segment's account ids, lets a read for one account skip the rest. SealedAt is set once
+ * the segment's rows have been deleted from Transactions; until then they are in both places.
+ */
+@Entity
+@Table(name = "TransactionSegments")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSegment {
+
+    @Id
+    @Column(name = "SegmentKey", length = 100, nullable = false)
+    private String segmentKey;
+
+    @Column(name = "MinDate", nullable = false)
+    private LocalDate minDate;
+
+    @Column(name = "MaxDate", nullable = false)
+    private LocalDate maxDate;
+
+    @Column(name = "MinTransactionId", length = 36)
+    private String minTransactionId;
+
+    @Column(name = "MaxTransactionId", length = 36)
+    private String maxTransactionId;
+
+    @Lob
+    @Column(name = "AccountFilter", length = 16_777_215) // MEDIUMBLOB, as created by the migration
+    @ToString.Exclude
+    private byte[] accountFilter;
+
+    @Column(name = "RowCount", nullable = false)
+    private Integer rowCount;
+
+    @Column(name = "CreatedAt", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "SealedAt")
+    private Instant sealedAt;
+}
@@ -1,10 +1,27 @@
 package com.amazobank.crm.accountservice.domain;
 
 /**
- * Status that mirrors the Transactions table ENUM definition.
+ * Status of a transaction, stored as a TINYINT code.
  */
-public enum TransactionStatus {
-    Completed,
-    Pending,
-    Failed
+public enum TransactionStatus implements CodedEnum {
+    Completed(1),
+    Pending(2),
+    Failed(3);
+
+    private final byte code;
+
+    TransactionStatus(int code) {
+        this.code = (byte) code;
+    }
+
+    @Override
+    public byte code() {
+        return code;
+    }
+
+    public static class CodeConverter extends CodedEnumConverter<TransactionStatus> {
+        public CodeConverter() {
+            super(TransactionStatus.class);
+        }
+    }
 }
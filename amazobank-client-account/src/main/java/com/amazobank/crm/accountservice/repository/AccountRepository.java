@@ -7,4 +7,5 @@ import java.util.List;
 public interface AccountRepository extends JpaRepository<Account, String> {
     List<Account> findByClientId(String clientId);
     List<Account> findByAgentId(String agentId);
+    List<Account> findByAgentIdAndClientId(String agentId, String clientId);
 }
@@ -0,0 +1,12 @@
+package com.amazobank.crm.accountservice.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.amazobank.crm.accountservice.domain.ArchivedAccount;
+
+public interface ArchivedAccountRepository extends JpaRepository<ArchivedAccount, String> {
+
+    List<ArchivedAccount> findByClientId(String clientId);
+}
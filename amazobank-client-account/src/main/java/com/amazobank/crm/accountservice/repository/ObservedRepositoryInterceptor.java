@@ -0,0 +1,47 @@
+package com.amazobank.crm.accountservice.repository;
+
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import com.amazobank.crm.accountservice.service.RepositoryCallEvent;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Wraps every call on a Spring Data repository in an observation named like "account-repository.find-all-by-id"
+ * and a {@link RepositoryCallEvent} for JFR recordings.
+ */
+public class ObservedRepositoryInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+    private final Supplier<ObservationRegistry> observationRegistry;
+
+    public ObservedRepositoryInterceptor(String repositoryName, Supplier<ObservationRegistry> observationRegistry) {
+        this.repositoryName = repositoryName;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        try {
+            return Observation.createNotStarted("repository.call", observationRegistry.get())
+                    .contextualName(repositoryName + "." + method)
+                    .lowCardinalityKeyValue("repository", repositoryName)
+                    .lowCardinalityKeyValue("method", method)
+                    .observeChecked(invocation::proceed);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryName;
+                event.method = method;
+                event.commit();
+            }
+        }
+    }
+}
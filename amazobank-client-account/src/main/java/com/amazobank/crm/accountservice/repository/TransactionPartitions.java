@@ -0,0 +1,75 @@
+package com.amazobank.crm.accountservice.repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DDL for the monthly RANGE COLUMNS partitions of the Transactions table (MySQL only).
+ *
+ * Each month has a partition named pYYYYMM holding dates before the first day of the next month. A
+ * trailing pMax partition catches everything later, so an insert never fails for want of a partition;
+ * new months are split off the front of pMax before any rows reach them. Detaching a month exchanges
+ * its partition with an empty standalone table named Transactions_pYYYYMM and then drops the partition.
+ */
+public final class TransactionPartitions {
+
+    public static final String CATCH_ALL = "pMax";
+
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private TransactionPartitions() {
+    }
+
+    public static String name(YearMonth month) {
+        return NAME.format(month);
+    }
+
+    /**
+     * The month a partition holds, or null for pMax and anything else that is not a monthly partition.
+     */
+    public static YearMonth month(String partitionName) {
+        try {
+            return YearMonth.parse(partitionName, NAME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public static String detachedTable(YearMonth month) {
+        return "Transactions_" + name(month);
+    }
+
+    /**
+     * Clause that partitions the table into the given months plus pMax.
+     */
+    public static String partitionBy(List<YearMonth> months) {
+        return "PARTITION BY RANGE COLUMNS (Date) (" + definitions(months) + ")";
+    }
+
+    /**
+     * Splits the given months, all later than every existing monthly partition, off the front of pMax.
+     */
+    public static String split(List<YearMonth> months) {
+        return "ALTER TABLE Transactions REORGANIZE PARTITION " + CATCH_ALL + " INTO (" + definitions(months) + ")";
+    }
+
+    public static List<String> detach(YearMonth month) {
+        String table = detachedTable(month);
+        return List.of(
+                "CREATE TABLE " + table + " LIKE Transactions",
+                "ALTER TABLE " + table + " REMOVE PARTITIONING",
+                "ALTER TABLE Transactions EXCHANGE PARTITION " + name(month) + " WITH TABLE " + table,
+                "ALTER TABLE Transactions DROP PARTITION " + name(month));
+    }
+
+    private static String definitions(List<YearMonth> months) {
+        return Stream.concat(
+                    months.stream().map(month -> "PARTITION " + name(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')"),
+                    Stream.of("PARTITION " + CATCH_ALL + " VALUES LESS THAN (MAXVALUE)"))
+                .collect(Collectors.joining(", "));
+    }
+}
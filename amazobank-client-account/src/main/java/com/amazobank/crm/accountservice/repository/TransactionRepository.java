@@ -3,11 +3,15 @@ package com.amazobank.crm.accountservice.repository;
 import com.amazobank.crm.accountservice.domain.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Every query bounds Date so that MySQL only opens the partitions that can hold a match.
+ */
 public interface TransactionRepository extends JpaRepository<Transaction, String> {
-    List<Transaction> findByAccountAccountId(String accountId);
+    List<Transaction> findByAccountAccountIdAndDateBetween(String accountId, LocalDate from, LocalDate to);
 
-    Optional<Transaction> findByAccountAccountIdAndTransactionId(String accountId, String transactionId);
+    Optional<Transaction> findByAccountAccountIdAndTransactionIdAndDateGreaterThanEqual(String accountId, String transactionId, LocalDate from);
 }
@@ -0,0 +1,15 @@
+package com.amazobank.crm.accountservice.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.amazobank.crm.accountservice.domain.TransactionSegment;
+
+public interface TransactionSegmentRepository extends JpaRepository<TransactionSegment, String> {
+
+    List<TransactionSegment> findBySealedAtIsNullAndCreatedAtBefore(Instant cutoff);
+
+    boolean existsBySealedAtIsNull();
+}
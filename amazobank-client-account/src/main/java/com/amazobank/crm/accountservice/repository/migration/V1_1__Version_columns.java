@@ -0,0 +1,47 @@
+package com.amazobank.crm.accountservice.repository.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the optimistic-locking version column to an Accounts table created before migrations.
+ *
+ * V1 only creates tables that are missing, so a table Hibernate created from the original entity keeps
+ * its old columns. This is a Java migration because MySQL has no ADD COLUMN IF NOT EXISTS.
+ */
+@Component
+public class V1_1__Version_columns extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (hasColumn(connection.getMetaData(), "Accounts", "version")) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE Accounts ADD COLUMN version BIGINT NOT NULL DEFAULT 0");
+        }
+    }
+
+    private static boolean hasColumn(DatabaseMetaData metaData, String table, String column) throws SQLException {
+        String catalog = metaData.getConnection().getCatalog();
+        for (String name : List.of(table, table.toUpperCase())) {
+            try (ResultSet columns = metaData.getColumns(catalog, null, name, null)) {
+                while (columns.next()) {
+                    if (columns.getString("COLUMN_NAME").equalsIgnoreCase(column)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
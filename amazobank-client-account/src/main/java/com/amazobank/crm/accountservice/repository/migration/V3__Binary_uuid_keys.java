@@ -0,0 +1,84 @@
+package com.amazobank.crm.accountservice.repository.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts the account and transaction keys from VARCHAR(36) to BINARY(16).
+ *
+ * Each key is copied into a new binary column, the old column is dropped and the new one takes its
+ * name. The foreign key and the index on Transactions.AccountID are dropped first and recreated at the
+ * end. This is a Java migration because the name of the foreign key depends on whether the table was
+ * created by V1 or, before migrations, by Hibernate, and because H2 has no UNHEX.
+ */
+@Component
+public class V3__Binary_uuid_keys extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean h2 = connection.getMetaData().getDatabaseProductName().startsWith("H2");
+        List<String> foreignKeys = foreignKeys(connection.getMetaData(), "Transactions", "Accounts");
+
+        try (Statement statement = connection.createStatement()) {
+            for (String foreignKey : foreignKeys) {
+                statement.execute("ALTER TABLE Transactions DROP FOREIGN KEY " + foreignKey);
+            }
+            statement.execute("DROP INDEX IdxTransactionsAccountDate ON Transactions");
+
+            toBinary(statement, h2, "Accounts", "accountId", true);
+            toBinary(statement, h2, "Transactions", "TransactionID", true);
+            toBinary(statement, h2, "Transactions", "AccountID", false);
+
+            statement.execute("CREATE INDEX IdxTransactionsAccountDate ON Transactions (AccountID, Date)");
+            statement.execute("ALTER TABLE Transactions ADD CONSTRAINT FkTransactionsAccount"
+                    + " FOREIGN KEY (AccountID) REFERENCES Accounts (accountId)");
+        }
+    }
+
+    private static void toBinary(Statement statement, boolean h2, String table, String column, boolean primaryKey)
+            throws SQLException {
+        String binary = column + "Bin";
+        // H2's HEXTORAW decodes four hex digits per character, so H2 goes through its UUID type instead.
+        String converted = h2 ? "CAST(CAST(" + column + " AS UUID) AS BINARY(16))" : "UNHEX(REPLACE(" + column + ", '-', ''))";
+        statement.execute("ALTER TABLE " + table + " ADD COLUMN " + binary + " BINARY(16) NULL");
+        statement.execute("UPDATE " + table + " SET " + binary + " = " + converted);
+        if (primaryKey) {
+            statement.execute("ALTER TABLE " + table + " DROP PRIMARY KEY");
+        }
+        statement.execute("ALTER TABLE " + table + " DROP COLUMN " + column);
+        statement.execute("ALTER TABLE " + table + " RENAME COLUMN " + binary + " TO " + column);
+        statement.execute("ALTER TABLE " + table + " MODIFY COLUMN " + column + " BINARY(16) NOT NULL");
+        if (primaryKey) {
+            statement.execute("ALTER TABLE " + table + " ADD PRIMARY KEY (" + column + ")");
+        }
+    }
+
+    private static List<String> foreignKeys(DatabaseMetaData metaData, String table, String referencedTable)
+            throws SQLException {
+        List<String> names = new ArrayList<>();
+        String catalog = metaData.getConnection().getCatalog();
+        for (String name : List.of(table, table.toUpperCase())) {
+            try (ResultSet keys = metaData.getImportedKeys(catalog, null, name)) {
+                while (keys.next()) {
+                    if (keys.getString("PKTABLE_NAME").equalsIgnoreCase(referencedTable)) {
+                        names.add(keys.getString("FK_NAME"));
+                    }
+                }
+            }
+            if (!names.isEmpty()) {
+                break;
+            }
+        }
+        return names;
+    }
+}
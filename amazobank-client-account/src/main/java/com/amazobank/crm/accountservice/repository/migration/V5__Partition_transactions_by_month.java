@@ -0,0 +1,65 @@
+package com.amazobank.crm.accountservice.repository.migration;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import com.amazobank.crm.accountservice.config.TransactionPartitionProperties;
+import com.amazobank.crm.accountservice.repository.TransactionPartitions;
+
+/**
+ * Partitions Transactions by month of Date.
+ *
+ * MySQL requires the partitioning column in every unique key and does not allow foreign keys on
+ * partitioned tables, so the primary key becomes (TransactionID, Date) and FkTransactionsAccount is
+ * dropped. Nothing else deletes accounts with transactions: DeletedAccountArchiver moves an account's
+ * transactions to TransactionsArchive in the same transaction as the account. Those two changes are
+ * made on every database to keep the schemas alike, while the PARTITION BY itself only runs on MySQL.
+ * The partitions cover the oldest stored month through monthsAhead months from now.
+ */
+@Component
+public class V5__Partition_transactions_by_month extends BaseJavaMigration {
+
+    private final TransactionPartitionProperties properties;
+
+    public V5__Partition_transactions_by_month(TransactionPartitionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE Transactions DROP FOREIGN KEY FkTransactionsAccount");
+            statement.execute("ALTER TABLE Transactions DROP PRIMARY KEY");
+            statement.execute("ALTER TABLE Transactions ADD PRIMARY KEY (TransactionID, Date)");
+
+            if (!connection.getMetaData().getDatabaseProductName().contains("MySQL")) {
+                return;
+            }
+
+            YearMonth current = YearMonth.now(ZoneOffset.UTC);
+            YearMonth first = current;
+            try (ResultSet oldest = statement.executeQuery("SELECT MIN(Date) FROM Transactions")) {
+                Date date = oldest.next() ? oldest.getDate(1) : null;
+                if (date != null && YearMonth.from(date.toLocalDate()).isBefore(current)) {
+                    first = YearMonth.from(date.toLocalDate());
+                }
+            }
+            List<YearMonth> months = new ArrayList<>();
+            for (YearMonth month = first; !month.isAfter(current.plusMonths(properties.getMonthsAhead())); month = month.plusMonths(1)) {
+                months.add(month);
+            }
+            statement.execute("ALTER TABLE Transactions " + TransactionPartitions.partitionBy(months));
+        }
+    }
+}
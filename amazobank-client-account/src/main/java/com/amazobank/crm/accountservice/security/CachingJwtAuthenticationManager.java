@@ -0,0 +1,73 @@
+package com.amazobank.crm.accountservice.security;
+
+import java.util.Optional;
+
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import com.amazobank.crm.accountservice.service.JwtVerificationEvent;
+import com.amazobank.crm.accountservice.service.RequestTimings;
+
+/**
+ * Resolves bearer tokens through {@link VerifiedJwtCache} before falling back to full verification.
+ *
+ * A cache miss decodes and verifies the token with the given {@link JwtDecoder} and converts it with
+ * {@link CognitoGroupGrantedAuthoritiesConverter}, exactly like the default resource server setup.
+ * A cache hit skips both and only builds a fresh token around the cached Jwt and authorities,
+ * so per-request details are never shared between requests.
+ */
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+
+    private final AuthenticationManager delegate;
+    private final VerifiedJwtCache cache;
+
+    public CachingJwtAuthenticationManager(JwtDecoder jwtDecoder, JwtAuthenticationConverter converter, VerifiedJwtCache cache) {
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(jwtDecoder);
+        provider.setJwtAuthenticationConverter(converter);
+        this.delegate = new ProviderManager(provider);
+        this.cache = cache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer)) {
+            return delegate.authenticate(authentication);
+        }
+
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Authentication result = resolve(bearer, event);
+            event.authenticated = result.isAuthenticated();
+            return result;
+        } finally {
+            RequestTimings.record(RequestTimings.Phase.Auth, start);
+            event.commit();
+        }
+    }
+
+    private Authentication resolve(BearerTokenAuthenticationToken bearer, JwtVerificationEvent event) {
+        Optional<VerifiedJwtCache.Entry> cached = cache.get(bearer.getToken());
+        event.cacheHit = cached.isPresent();
+        if (cached.isPresent()) {
+            JwtAuthenticationToken verified = cached.get().authentication();
+            JwtAuthenticationToken result = new JwtAuthenticationToken(verified.getToken(), verified.getAuthorities(), verified.getName());
+            result.setDetails(bearer.getDetails());
+            return result;
+        }
+
+        Authentication result = delegate.authenticate(bearer);
+        if (result instanceof JwtAuthenticationToken jwtAuthentication) {
+            cache.put(bearer.getToken(), jwtAuthentication);
+        }
+        return result;
+    }
+}
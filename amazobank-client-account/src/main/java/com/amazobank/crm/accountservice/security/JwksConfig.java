@@ -0,0 +1,55 @@
+package com.amazobank.crm.accountservice.security;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.amazobank.crm.accountservice.config.JwksProperties;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces the auto-configured remote JWKS decoder with one backed by {@link PreloadedJwkSource},
+ * so no request thread waits on Cognito for keys after startup.
+ */
+@Configuration
+public class JwksConfig {
+
+    @Bean(destroyMethod = "close")
+    public PreloadedJwkSource jwkSource(JwksProperties properties, VerifiedJwtCache verifiedJwtCache, MeterRegistry meterRegistry) {
+        String bootstrapFile = properties.getBootstrapFile();
+        PreloadedJwkSource source = new PreloadedJwkSource(
+                URI.create(properties.getJwkSetUri()),
+                bootstrapFile == null || bootstrapFile.isBlank() ? null : Path.of(bootstrapFile),
+                properties.getRefreshInterval(),
+                properties.getMinRefreshInterval(),
+                properties.getTimeout(),
+                verifiedJwtCache::retainKeys,
+                meterRegistry);
+        source.start();
+        return source;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(PreloadedJwkSource jwkSource,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are validated by Spring below, not by Nimbus.
+        processor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        return decoder;
+    }
+}
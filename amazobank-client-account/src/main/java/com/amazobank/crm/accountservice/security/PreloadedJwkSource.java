@@ -0,0 +1,235 @@
+package com.amazobank.crm.accountservice.security;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * JWK source that keeps the Cognito key set in memory and refreshes it off the request path.
+ *
+ * Keys are loaded once at startup, first from an optional local bootstrap file and then from the
+ * remote JWKS endpoint. A single background thread refreshes the set before the endpoint's
+ * Cache-Control max-age runs out. Request threads only fetch keys themselves when a token names
+ * a key id that is not in the current set, and then at most once per minRefreshInterval.
+ */
+public class PreloadedJwkSource implements JWKSource<SecurityContext>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PreloadedJwkSource.class);
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final URI jwkSetUri;
+    private final Path bootstrapFile;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final Duration timeout;
+    private final Consumer<Set<String>> onKeysChanged;
+    private final Clock clock;
+
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    private volatile JWKSet jwkSet = new JWKSet();
+    private volatile Instant lastRefreshAttempt = Instant.EPOCH;
+    private volatile Instant lastRefreshSuccess = Instant.EPOCH;
+
+    public PreloadedJwkSource(URI jwkSetUri, Path bootstrapFile, Duration refreshInterval, Duration minRefreshInterval,
+            Duration timeout, Consumer<Set<String>> onKeysChanged, MeterRegistry meterRegistry) {
+        this.jwkSetUri = jwkSetUri;
+        this.bootstrapFile = bootstrapFile;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.timeout = timeout;
+        this.onKeysChanged = onKeysChanged;
+        this.clock = Clock.systemUTC();
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.successTimer = Timer.builder("security.jwks.refresh")
+                .description("Time taken to fetch the JWK set")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("security.jwks.refresh")
+                .description("Time taken to fetch the JWK set")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        Gauge.builder("security.jwks.keys", this, source -> source.jwkSet.getKeys().size())
+                .description("Number of signing keys currently loaded")
+                .register(meterRegistry);
+        Gauge.builder("security.jwks.age", this, source -> Duration.between(source.lastRefreshSuccess, source.clock.instant()).toSeconds())
+                .description("Seconds since the JWK set was last refreshed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the key set before the application starts serving requests, then schedule background refreshes.
+     * When the bootstrap file already provided keys, the first remote fetch also happens in the background.
+     */
+    public void start() {
+        if (loadBootstrapFile()) {
+            scheduleRefresh(Duration.ZERO);
+        } else {
+            scheduleRefresh(refresh());
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        List<JWK> keys = jwkSelector.select(jwkSet);
+        if (!keys.isEmpty()) {
+            return keys;
+        }
+
+        // An unknown key id usually means the keys were rotated before our next scheduled refresh.
+        synchronized (this) {
+            keys = jwkSelector.select(jwkSet);
+            if (keys.isEmpty() && clock.instant().isAfter(lastRefreshAttempt.plus(minRefreshInterval))) {
+                refresh();
+                keys = jwkSelector.select(jwkSet);
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void scheduleRefresh(Duration delay) {
+        scheduler.schedule(() -> scheduleRefresh(refresh()), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fetch the remote key set and swap it in.
+     *
+     * @return how long to wait before the next background refresh
+     */
+    private synchronized Duration refresh() {
+        lastRefreshAttempt = clock.instant();
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwkSetUri)
+                    .timeout(timeout)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() != 200) {
+                throw new IOException("JWKS endpoint returned HTTP " + response.statusCode());
+            }
+
+            JWKSet fetched = JWKSet.parse(response.body());
+            update(fetched);
+            lastRefreshSuccess = clock.instant();
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            writeBootstrapFile(response.body());
+
+            log.debug("Refreshed JWK set from {}: {} keys", jwkSetUri, fetched.getKeys().size());
+            return nextRefreshDelay(response);
+        } catch (IOException | ParseException e) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("Failed to refresh JWK set from {}: {}", jwkSetUri, e.getMessage());
+            return minRefreshInterval;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return minRefreshInterval;
+        }
+    }
+
+    private void update(JWKSet fetched) {
+        Set<String> previous = keyIds(jwkSet);
+        Set<String> current = keyIds(fetched);
+        jwkSet = fetched;
+        if (!current.containsAll(previous)) {
+            onKeysChanged.accept(current);
+        }
+    }
+
+    private Duration nextRefreshDelay(HttpResponse<String> response) {
+        Duration delay = refreshInterval;
+        String cacheControl = response.headers().firstValue("Cache-Control").orElse("");
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        if (matcher.find()) {
+            // Refresh ahead of the advertised expiry rather than at it.
+            Duration maxAge = Duration.ofSeconds(Long.parseLong(matcher.group(1))).multipliedBy(4).dividedBy(5);
+            if (maxAge.compareTo(delay) < 0) {
+                delay = maxAge;
+            }
+        }
+        return delay.compareTo(minRefreshInterval) < 0 ? minRefreshInterval : delay;
+    }
+
+    private boolean loadBootstrapFile() {
+        if (bootstrapFile == null || !Files.isReadable(bootstrapFile)) {
+            return false;
+        }
+        try {
+            jwkSet = JWKSet.load(bootstrapFile.toFile());
+            log.info("Loaded {} signing keys from {}", jwkSet.getKeys().size(), bootstrapFile);
+            return !jwkSet.getKeys().isEmpty();
+        } catch (IOException | ParseException e) {
+            log.warn("Ignoring unreadable JWKS bootstrap file {}: {}", bootstrapFile, e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeBootstrapFile(String body) {
+        if (bootstrapFile == null) {
+            return;
+        }
+        try {
+            Path tmp = bootstrapFile.resolveSibling(bootstrapFile.getFileName() + ".tmp");
+            Files.writeString(tmp, body, StandardCharsets.UTF_8);
+            Files.move(tmp, bootstrapFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("Could not write JWKS bootstrap file {}: {}", bootstrapFile, e.getMessage());
+        }
+    }
+
+    private static Set<String> keyIds(JWKSet set) {
+        return set.getKeys().stream()
+                .map(JWK::getKeyID)
+                .filter(kid -> kid != null)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
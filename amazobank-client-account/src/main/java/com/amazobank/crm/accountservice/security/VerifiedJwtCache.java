@@ -0,0 +1,124 @@
+package com.amazobank.crm.accountservice.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.lang.NonNull;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded cache of access tokens that have already passed signature and claim validation.
+ *
+ * Entries are keyed by a SHA-256 digest of the raw token, so the token itself is never held as a key.
+ * Every entry expires at the token's "exp" claim, or after maxTtl if that comes first, and a lookup
+ * re-checks the expiry so an expired token is never returned even before Caffeine evicts it.
+ * Entries signed by a key that is no longer published can be dropped through {@link #invalidateKey(String)}.
+ */
+public class VerifiedJwtCache {
+
+    private final Cache<String, Entry> cache;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public VerifiedJwtCache(long maximumSize, Duration maxTtl) {
+        this(maximumSize, maxTtl, Clock.systemUTC());
+    }
+
+    public VerifiedJwtCache(long maximumSize, Duration maxTtl, Clock clock) {
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry value, long currentTime) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Optional<Entry> get(@NonNull String token) {
+        String key = digest(token);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(entry.expiresAt())) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    public void put(@NonNull String token, @NonNull JwtAuthenticationToken authentication) {
+        Instant exp = authentication.getToken().getExpiresAt();
+        if (exp == null) {
+            // Never cache tokens that do not expire on their own.
+            return;
+        }
+        Instant cap = clock.instant().plus(maxTtl);
+        Instant expiresAt = exp.isBefore(cap) ? exp : cap;
+        String kid = (String) authentication.getToken().getHeaders().get("kid");
+        cache.put(digest(token), new Entry(authentication, kid, expiresAt));
+    }
+
+    /**
+     * Drop every cached token signed with the given key id.
+     */
+    public void invalidateKey(String kid) {
+        cache.asMap().values().removeIf(entry -> kid == null || kid.equals(entry.kid()));
+    }
+
+    /**
+     * Drop every cached token whose signing key id is not in the given set.
+     */
+    public void retainKeys(Collection<String> activeKids) {
+        cache.asMap().values().removeIf(entry -> entry.kid() == null || !activeKids.contains(entry.kid()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private long remainingNanos(Entry value) {
+        return Math.max(0, Duration.between(clock.instant(), value.expiresAt()).toNanos());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record Entry(JwtAuthenticationToken authentication, String kid, Instant expiresAt) {}
+}
@@ -0,0 +1,76 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Bloom filter over the account ids in one segment, kept in the segment index so a read for one account
+ * skips the segments it has no rows in without fetching them.
+ *
+ * Ten bits per account and five probes give about one percent false positives; a false positive costs a
+ * fetch, never a wrong result. The filter is the bit array alone, so it wraps the bytes stored in the
+ * index without copying them.
+ */
+public final class AccountFilter {
+
+    private static final int BITS_PER_ACCOUNT = 10;
+    private static final int PROBES = 5;
+
+    private final byte[] bits;
+
+    private AccountFilter(byte[] bits) {
+        this.bits = bits;
+    }
+
+    public static AccountFilter of(Collection<UUID> accountIds) {
+        AccountFilter filter = new AccountFilter(new byte[Math.max(8, (accountIds.size() * BITS_PER_ACCOUNT + 7) / 8)]);
+        for (UUID accountId : accountIds) {
+            filter.add(accountId);
+        }
+        return filter;
+    }
+
+    public static AccountFilter wrap(byte[] bits) {
+        return new AccountFilter(bits);
+    }
+
+    public byte[] toBytes() {
+        return bits;
+    }
+
+    public boolean mightContain(UUID accountId) {
+        for (int bit : probes(accountId)) {
+            if ((bits[bit >>> 3] & (1 << (bit & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(UUID accountId) {
+        for (int bit : probes(accountId)) {
+            bits[bit >>> 3] |= (byte) (1 << (bit & 7));
+        }
+    }
+
+    private int[] probes(UUID accountId) {
+        long size = bits.length * 8L;
+        long h1 = mix(accountId.getMostSignificantBits() ^ accountId.getLeastSignificantBits());
+        long h2 = mix(accountId.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+        int[] probes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = (int) Math.floorMod(h1 + i * h2, size);
+        }
+        return probes;
+    }
+
+    // MurmurHash3's 64-bit finalizer: UUIDv7 ids start with a timestamp, so their raw bits cluster.
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93fe53e1a87L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -1,20 +1,36 @@
 package com.amazobank.crm.accountservice.service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
+import com.amazobank.crm.accountservice.api.JsonCache;
 import com.amazobank.crm.accountservice.domain.Account;
 import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.UuidV7;
 import com.amazobank.crm.accountservice.repository.AccountRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class AccountService {
     private final AccountRepository repo;
+    private final BatchLoader<String, Account> batchLoader;
+    private final JsonCache jsonCache;
+    private final InvalidationBus invalidationBus;
+    private final SingleFlight<String, Optional<Account>> byId;
 
-    public AccountService(AccountRepository repo) {
+    public AccountService(AccountRepository repo, BatchLoader<String, Account> batchLoader, JsonCache jsonCache,
+            InvalidationBus invalidationBus, MeterRegistry meterRegistry) {
         this.repo = repo;
+        this.batchLoader = batchLoader;
+        this.jsonCache = jsonCache;
+        this.invalidationBus = invalidationBus;
+        this.byId = new SingleFlight<>("accounts", meterRegistry, result -> result.map(AccountService::snapshot));
+        invalidationBus.subscribe("account", event -> invalidate(event.id()));
     }
 
     public List<Account> findAll() {
@@ -22,7 +38,21 @@ public class AccountService {
     }
 
     public Optional<Account> findById(String id) {
-        return repo.findById(id);
+        // Keys are BINARY(16), so anything that is not a UUID cannot name an account.
+        if (!UuidV7.isValid(id)) {
+            return Optional.empty();
+        }
+        String key = id.toLowerCase(Locale.ROOT);
+        return byId.execute(key, () -> batchLoader.load(key));
+    }
+
+    /**
+     * A copy of the Accounts row for one caller of {@link #findById}. The loaded transactions collection is
+     * lazy and its session closed, so it is left out rather than shared; read transactions through
+     * {@link TransactionService}.
+     */
+    private static Account snapshot(Account account) {
+        return account.toBuilder().transactions(List.of()).build();
     }
 
     public List<Account> findByClientId(String clientId) {
@@ -33,12 +63,49 @@ public class AccountService {
         return repo.findByAgentId(agentId);
     }
 
+    public List<Account> findByAgentIdAndClientId(String agentId, String clientId) {
+        return repo.findByAgentIdAndClientId(agentId, clientId);
+    }
+
     public Account save(Account account) {
-        return repo.save(account);
+        stampDeletion(account);
+        Account saved = repo.save(account);
+        changed(saved);
+        return saved;
     }
 
     public void softDelete(Account account) {
         account.setAccountStatus(AccountStatus.Deleted);
-        repo.save(account);
+        stampDeletion(account);
+        changed(repo.save(account));
+    }
+
+    /**
+     * Drop an account that was moved to the archive from every task's caches.
+     */
+    public void archived(String accountId) {
+        invalidate(accountId);
+        invalidationBus.publish("account", accountId, null);
+    }
+
+    /**
+     * Keep deletedAt in step with the status, which an update may also set to Deleted or back.
+     */
+    private void stampDeletion(Account account) {
+        if (account.getAccountStatus() != AccountStatus.Deleted) {
+            account.setDeletedAt(null);
+        } else if (account.getDeletedAt() == null) {
+            account.setDeletedAt(Instant.now());
+        }
+    }
+
+    private void changed(Account account) {
+        invalidate(account.getAccountId());
+        invalidationBus.publish("account", account.getAccountId(), account.getVersion());
+    }
+
+    private void invalidate(String id) {
+        byId.forget(id);
+        jsonCache.invalidate("accounts/" + id);
     }
 }
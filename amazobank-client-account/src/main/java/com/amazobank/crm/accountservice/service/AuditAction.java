@@ -0,0 +1,5 @@
+package com.amazobank.crm.accountservice.service;
+
+public enum AuditAction {
+    Created, Updated, Deleted, Forbidden
+}
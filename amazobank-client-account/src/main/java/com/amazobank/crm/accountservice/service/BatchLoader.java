@@ -0,0 +1,160 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Collects point lookups for a short window and resolves them with a single multi-key query.
+ *
+ * A batch is sent when the window elapses or when maxBatchSize lookups are queued, whichever comes
+ * first. Keys that the query does not return resolve to an empty Optional. Entities loaded here are
+ * detached, since the query runs on the loader's own threads.
+ *
+ * A batch query takes its own pool connection. A caller that already holds one (inside a transaction
+ * or an open EntityManager) would keep it while waiting for the batch, and with enough such callers the
+ * pool runs out before any batch can run. Those callers query on their own thread instead.
+ */
+public class BatchLoader<K, V> implements AutoCloseable {
+
+    private final Function<Collection<K>, List<V>> fetch;
+    private final Function<V, K> idOf;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+    private final DistributionSummary batchSize;
+    private final Timer waitTime;
+
+    private final Queue<Pending<K, V>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public BatchLoader(String name, Function<Collection<K>, List<V>> fetch, Function<V, K> idOf,
+            Duration window, int maxBatchSize, int threads, MeterRegistry meterRegistry) {
+        this.fetch = fetch;
+        this.idOf = idOf;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-batch-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = DistributionSummary.builder("repository.batch.size")
+                .description("Number of distinct keys resolved by one batched query")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTime = Timer.builder("repository.batch.wait")
+                .description("Time a lookup waited in the queue before its batch was sent")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a lookup and block until its batch has been resolved, or look it up directly when this
+     * thread has resources bound that may hold a connection.
+     */
+    public Optional<V> load(K key) {
+        if (!TransactionSynchronizationManager.getResourceMap().isEmpty()) {
+            return fetch.apply(List.of(key)).stream().findFirst();
+        }
+        long start = System.nanoTime();
+        try {
+            return loadAsync(key).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            // The query itself runs on a batch thread, so the request only sees how long it waited.
+            RequestTimings.record(RequestTimings.Phase.Batch, start);
+        }
+    }
+
+    public CompletableFuture<Optional<V>> loadAsync(K key) {
+        Pending<K, V> pending = new Pending<>(key, new CompletableFuture<>(), System.nanoTime());
+        queue.add(pending);
+        queued.incrementAndGet();
+        scheduleDispatch();
+        return pending.future();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleDispatch() {
+        if (queued.get() >= maxBatchSize) {
+            executor.execute(this::dispatch);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            executor.schedule(() -> {
+                flushScheduled.set(false);
+                dispatch();
+            }, windowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void dispatch() {
+        List<Pending<K, V>> batch = new ArrayList<>();
+        Pending<K, V> next;
+        while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        queued.addAndGet(-batch.size());
+        if (!queue.isEmpty()) {
+            scheduleDispatch();
+        }
+
+        long start = System.nanoTime();
+        Set<K> keys = new LinkedHashSet<>();
+        for (Pending<K, V> pending : batch) {
+            keys.add(pending.key());
+            waitTime.record(start - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(keys.size());
+
+        try {
+            Map<K, V> found = fetch.apply(keys).stream()
+                    .collect(Collectors.toMap(idOf, Function.identity(), (a, b) -> a));
+            for (Pending<K, V> pending : batch) {
+                pending.future().complete(Optional.ofNullable(found.get(pending.key())));
+            }
+        } catch (RuntimeException e) {
+            for (Pending<K, V> pending : batch) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record Pending<K, V>(K key, CompletableFuture<Optional<V>> future, long enqueuedAt) {}
+}
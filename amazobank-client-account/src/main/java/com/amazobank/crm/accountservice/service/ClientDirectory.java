@@ -0,0 +1,97 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Local copy of the client facts this service needs: owning agent, email and status.
+ *
+ * The profile service keeps the ClientDirectory table up to date on every client write. This task
+ * loads the whole table before it reports ready, then polls it for rows changed since the last poll.
+ * A client missing here may simply not have replicated yet, so callers must treat absence as unknown.
+ */
+@Component
+public class ClientDirectory implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientDirectory.class);
+    private static final Duration OVERLAP = Duration.ofSeconds(5);
+
+    private final JdbcTemplate jdbc;
+    private final Duration pollInterval;
+    private final Map<String, ClientRef> clients = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService poller;
+
+    private Instant readFrom = Instant.EPOCH;
+
+    public ClientDirectory(JdbcTemplate jdbc, @Value("${client-directory.poll-interval:PT1S}") Duration pollInterval) {
+        this.jdbc = jdbc;
+        this.pollInterval = pollInterval;
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "client-directory");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        poll();
+        log.info("Loaded {} clients into the client directory", clients.size());
+        poller.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<ClientRef> find(String clientId) {
+        return Optional.ofNullable(clients.get(clientId));
+    }
+
+    @PreDestroy
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    private synchronized void poll() {
+        try {
+            Instant[] newest = { readFrom };
+            jdbc.query(
+                    "SELECT ClientID, AgentID, Email, ClientStatus, Version, UpdatedAt FROM ClientDirectory WHERE UpdatedAt >= ?",
+                    rs -> {
+                        Instant updatedAt = rs.getTimestamp("UpdatedAt").toInstant();
+                        if (updatedAt.isAfter(newest[0])) {
+                            newest[0] = updatedAt;
+                        }
+                        ClientRef ref = new ClientRef(rs.getString("AgentID"), rs.getString("Email"),
+                                rs.getString("ClientStatus"), rs.getLong("Version"));
+                        clients.merge(rs.getString("ClientID"), ref,
+                                (current, incoming) -> incoming.version() >= current.version() ? incoming : current);
+                    },
+                    Timestamp.from(readFrom.equals(Instant.EPOCH) ? Instant.EPOCH : readFrom.minus(OVERLAP)));
+            readFrom = newest[0];
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh the client directory: {}", e.getMessage());
+        }
+    }
+
+    public record ClientRef(String agentId, String email, String status, long version) {
+
+        public boolean isDeleted() {
+            return "Deleted".equals(status);
+        }
+    }
+}
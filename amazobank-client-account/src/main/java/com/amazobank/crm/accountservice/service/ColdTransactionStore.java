@@ -0,0 +1,137 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.amazobank.crm.accountservice.config.ColdStorageProperties;
+import com.amazobank.crm.accountservice.domain.Transaction;
+import com.amazobank.crm.accountservice.domain.TransactionSegment;
+import com.amazobank.crm.accountservice.repository.TransactionSegmentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Reads archived transactions from the segments in the object store.
+ *
+ * The segment index is small, so every task keeps all of it in memory and a read never queries it: the
+ * index is loaded at startup, reloaded whenever the archiver announces a new segment and on a timer in
+ * case an announcement was missed. Segments whose date range misses the requested range are skipped
+ * without being fetched, and so are segments whose account filter rules the account out and segments
+ * whose id range misses a transaction looked up by id. Reads without a date range therefore only fetch
+ * the segments the account has rows in, give or take the filter's false positives.
+ * Decoded segments are cached, weighted by row count.
+ */
+@Component
+public class ColdTransactionStore implements ApplicationRunner {
+
+    public static final String SEGMENTS = "transaction-segments";
+
+    private static final Logger log = LoggerFactory.getLogger(ColdTransactionStore.class);
+    private static final ColumnarSegment EMPTY = ColumnarSegment.of(List.of());
+
+    private final ObjectStore objectStore;
+    private final TransactionSegmentRepository segmentRepository;
+    private final Cache<String, ColumnarSegment> segments;
+
+    private volatile List<TransactionSegment> index = List.of();
+
+    public ColdTransactionStore(ObjectStore objectStore, TransactionSegmentRepository segmentRepository,
+            InvalidationBus invalidationBus, ColdStorageProperties properties) {
+        this.objectStore = objectStore;
+        this.segmentRepository = segmentRepository;
+        this.segments = Caffeine.newBuilder()
+                .maximumWeight(properties.getCacheMaxRows())
+                .weigher((String key, ColumnarSegment segment) -> Math.max(1, segment.size()))
+                .build();
+        invalidationBus.subscribe(SEGMENTS, event -> refresh());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+        log.info("Loaded {} transaction segments into the cold storage index", index.size());
+    }
+
+    /**
+     * Reload the segment index. Segments dropped from it are also dropped from the cache.
+     */
+    @Scheduled(fixedDelayString = "${cold-storage.index-refresh-interval:PT5M}",
+            initialDelayString = "${cold-storage.index-refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            List<TransactionSegment> loaded = segmentRepository.findAll();
+            loaded.sort(Comparator.comparing(TransactionSegment::getMinDate));
+            index = List.copyOf(loaded);
+            segments.asMap().keySet().retainAll(loaded.stream().map(TransactionSegment::getSegmentKey).toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh the transaction segment index: {}", e.getMessage());
+        }
+    }
+
+    public List<Transaction> findByAccountId(String accountId, LocalDate from, LocalDate to) {
+        List<Transaction> found = new ArrayList<>();
+        for (TransactionSegment entry : overlapping(accountId, from, to)) {
+            found.addAll(segment(entry).findByAccountId(accountId, from, to));
+        }
+        return found;
+    }
+
+    public Optional<Transaction> find(String accountId, String transactionId, LocalDate from) {
+        String id = UUID.fromString(transactionId).toString();
+        for (TransactionSegment entry : overlapping(accountId, from, LocalDate.MAX)) {
+            if (!covers(entry, id)) {
+                continue;
+            }
+            Optional<Transaction> found = segment(entry).find(accountId, transactionId);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<TransactionSegment> overlapping(String accountId, LocalDate from, LocalDate to) {
+        UUID account = UUID.fromString(accountId);
+        return index.stream()
+                .filter(entry -> !entry.getMaxDate().isBefore(from) && !entry.getMinDate().isAfter(to))
+                // Segments written before the index had account filters could hold any account.
+                .filter(entry -> entry.getAccountFilter() == null || AccountFilter.wrap(entry.getAccountFilter()).mightContain(account))
+                .toList();
+    }
+
+    private static boolean covers(TransactionSegment entry, String id) {
+        // Segments written before the index had id ranges could hold any id.
+        return entry.getMinTransactionId() == null
+                || id.compareTo(entry.getMinTransactionId()) >= 0 && id.compareTo(entry.getMaxTransactionId()) <= 0;
+    }
+
+    private ColumnarSegment segment(TransactionSegment entry) {
+        ColumnarSegment segment = segments.get(entry.getSegmentKey(), key -> {
+            try {
+                Optional<byte[]> data = objectStore.get(key);
+                if (data.isEmpty() && entry.getSealedAt() == null) {
+                    // Claimed but not written yet. Its rows are all still in Transactions.
+                    return null;
+                }
+                return ColumnarSegment.read(data
+                        .orElseThrow(() -> new IllegalStateException("Transaction segment " + key + " is missing from the object store")));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read transaction segment " + key, e);
+            }
+        });
+        return segment == null ? EMPTY : segment;
+    }
+}
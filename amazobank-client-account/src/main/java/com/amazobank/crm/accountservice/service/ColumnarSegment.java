@@ -0,0 +1,271 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.domain.Transaction;
+import com.amazobank.crm.accountservice.domain.TransactionStatus;
+import com.amazobank.crm.accountservice.domain.TransactionType;
+import com.amazobank.crm.accountservice.domain.UuidV7;
+
+/**
+ * An immutable block of archived transactions, stored column by column and gzip-compressed.
+ *
+ * Rows are sorted by account id and then date, so one account's rows are contiguous and are found
+ * by binary search over the account id column without materializing the rest of the segment. The
+ * layout is a header (magic, format version, row count, min and max date) followed by one block
+ * per column: transaction ids and account ids as 16 bytes each, client ids as UTF strings,
+ * the transaction type letter and the status code as one byte each, amounts as doubles and dates as epoch days.
+ */
+public final class ColumnarSegment {
+
+    private static final int MAGIC = 0x414d5453; // "AMTS"
+    private static final byte FORMAT_VERSION = 1;
+    private static final int ID_BYTES = 16;
+    private static final TransactionStatus.CodeConverter STATUS = new TransactionStatus.CodeConverter();
+
+    private final int size;
+    private final byte[] transactionIds;
+    private final byte[] accountIds;
+    private final String[] clientIds;
+    private final byte[] types;
+    private final double[] amounts;
+    private final int[] dates;
+    private final byte[] statuses;
+    private final LocalDate minDate;
+    private final LocalDate maxDate;
+
+    private ColumnarSegment(int size, byte[] transactionIds, byte[] accountIds, String[] clientIds, byte[] types,
+            double[] amounts, int[] dates, byte[] statuses) {
+        this.size = size;
+        this.transactionIds = transactionIds;
+        this.accountIds = accountIds;
+        this.clientIds = clientIds;
+        this.types = types;
+        this.amounts = amounts;
+        this.dates = dates;
+        this.statuses = statuses;
+        this.minDate = size == 0 ? null : LocalDate.ofEpochDay(Arrays.stream(dates).min().getAsInt());
+        this.maxDate = size == 0 ? null : LocalDate.ofEpochDay(Arrays.stream(dates).max().getAsInt());
+    }
+
+    /**
+     * Build a segment from transactions in any order.
+     */
+    public static ColumnarSegment of(List<Transaction> transactions) {
+        List<Transaction> sorted = new ArrayList<>(transactions);
+        sorted.sort(Comparator.<Transaction, UUID>comparing(t -> UUID.fromString(t.getAccount().getAccountId()), ColumnarSegment::compareUnsigned)
+                .thenComparing(Transaction::getDate));
+
+        int size = sorted.size();
+        byte[] transactionIds = new byte[size * ID_BYTES];
+        byte[] accountIds = new byte[size * ID_BYTES];
+        String[] clientIds = new String[size];
+        byte[] types = new byte[size];
+        double[] amounts = new double[size];
+        int[] dates = new int[size];
+        byte[] statuses = new byte[size];
+        for (int i = 0; i < size; i++) {
+            Transaction t = sorted.get(i);
+            System.arraycopy(UuidV7.toBytes(UUID.fromString(t.getTransactionId())), 0, transactionIds, i * ID_BYTES, ID_BYTES);
+            System.arraycopy(UuidV7.toBytes(UUID.fromString(t.getAccount().getAccountId())), 0, accountIds, i * ID_BYTES, ID_BYTES);
+            clientIds[i] = t.getClientId();
+            types[i] = (byte) t.getTransactionType().name().charAt(0);
+            amounts[i] = t.getAmount();
+            dates[i] = (int) t.getDate().toEpochDay();
+            statuses[i] = t.getStatus().code();
+        }
+        return new ColumnarSegment(size, transactionIds, accountIds, clientIds, types, amounts, dates, statuses);
+    }
+
+    public static ColumnarSegment read(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                throw new IOException("Not a transaction segment");
+            }
+            int size = in.readInt();
+            in.readLong();
+            in.readLong();
+            byte[] transactionIds = in.readNBytes(size * ID_BYTES);
+            byte[] accountIds = in.readNBytes(size * ID_BYTES);
+            String[] clientIds = new String[size];
+            for (int i = 0; i < size; i++) {
+                clientIds[i] = in.readUTF();
+            }
+            byte[] types = in.readNBytes(size);
+            double[] amounts = new double[size];
+            for (int i = 0; i < size; i++) {
+                amounts[i] = in.readDouble();
+            }
+            int[] dates = new int[size];
+            for (int i = 0; i < size; i++) {
+                dates[i] = in.readInt();
+            }
+            byte[] statuses = in.readNBytes(size);
+            return new ColumnarSegment(size, transactionIds, accountIds, clientIds, types, amounts, dates, statuses);
+        }
+    }
+
+    public byte[] toBytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(size);
+            out.writeLong(size == 0 ? 0 : minDate.toEpochDay());
+            out.writeLong(size == 0 ? 0 : maxDate.toEpochDay());
+            out.write(transactionIds);
+            out.write(accountIds);
+            for (String clientId : clientIds) {
+                out.writeUTF(clientId);
+            }
+            out.write(types);
+            for (double amount : amounts) {
+                out.writeDouble(amount);
+            }
+            for (int date : dates) {
+                out.writeInt(date);
+            }
+            out.write(statuses);
+        }
+        return bytes.toByteArray();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LocalDate minDate() {
+        return minDate;
+    }
+
+    public LocalDate maxDate() {
+        return maxDate;
+    }
+
+    /**
+     * The lowest transaction id, or null when the segment is empty. Ids compare as unsigned bytes,
+     * which is also the order of their lowercase text.
+     */
+    public String minTransactionId() {
+        return transactionIdAt(extremeTransactionId(-1));
+    }
+
+    /**
+     * The highest transaction id, or null when the segment is empty.
+     */
+    public String maxTransactionId() {
+        return transactionIdAt(extremeTransactionId(1));
+    }
+
+    /**
+     * A filter over the segment's distinct account ids, for the segment index.
+     */
+    public AccountFilter accountFilter() {
+        List<UUID> accounts = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            // Rows are sorted by account, so each account's rows are contiguous.
+            if (i == 0 || !Arrays.equals(accountIds, i * ID_BYTES, (i + 1) * ID_BYTES, accountIds, (i - 1) * ID_BYTES, i * ID_BYTES)) {
+                accounts.add(UuidV7.fromBytes(Arrays.copyOfRange(accountIds, i * ID_BYTES, (i + 1) * ID_BYTES)));
+            }
+        }
+        return AccountFilter.of(accounts);
+    }
+
+    /**
+     * Transaction ids as stored, 16 bytes each.
+     */
+    public List<byte[]> transactionIds() {
+        List<byte[]> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(Arrays.copyOfRange(transactionIds, i * ID_BYTES, (i + 1) * ID_BYTES));
+        }
+        return ids;
+    }
+
+    public List<Transaction> findByAccountId(String accountId, LocalDate from, LocalDate to) {
+        byte[] account = UuidV7.toBytes(UUID.fromString(accountId));
+        List<Transaction> found = new ArrayList<>();
+        for (int i = firstRowOf(account); i < size && sameAccount(i, account); i++) {
+            if (dates[i] >= from.toEpochDay() && dates[i] <= to.toEpochDay()) {
+                found.add(row(i));
+            }
+        }
+        return found;
+    }
+
+    public Optional<Transaction> find(String accountId, String transactionId) {
+        byte[] account = UuidV7.toBytes(UUID.fromString(accountId));
+        byte[] transaction = UuidV7.toBytes(UUID.fromString(transactionId));
+        for (int i = firstRowOf(account); i < size && sameAccount(i, account); i++) {
+            if (Arrays.equals(transactionIds, i * ID_BYTES, (i + 1) * ID_BYTES, transaction, 0, ID_BYTES)) {
+                return Optional.of(row(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int extremeTransactionId(int sign) {
+        int found = -1;
+        for (int i = 0; i < size; i++) {
+            if (found < 0 || Integer.signum(Arrays.compareUnsigned(transactionIds, i * ID_BYTES, (i + 1) * ID_BYTES,
+                    transactionIds, found * ID_BYTES, (found + 1) * ID_BYTES)) == sign) {
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    private String transactionIdAt(int row) {
+        return row < 0 ? null : UuidV7.fromBytes(Arrays.copyOfRange(transactionIds, row * ID_BYTES, (row + 1) * ID_BYTES)).toString();
+    }
+
+    private int firstRowOf(byte[] account) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Arrays.compareUnsigned(accountIds, mid * ID_BYTES, (mid + 1) * ID_BYTES, account, 0, ID_BYTES) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean sameAccount(int row, byte[] account) {
+        return Arrays.equals(accountIds, row * ID_BYTES, (row + 1) * ID_BYTES, account, 0, ID_BYTES);
+    }
+
+    private Transaction row(int i) {
+        String accountId = UuidV7.fromBytes(Arrays.copyOfRange(accountIds, i * ID_BYTES, (i + 1) * ID_BYTES)).toString();
+        return Transaction.builder()
+                .transactionId(transactionIdAt(i))
+                .clientId(clientIds[i])
+                .account(Account.builder().accountId(accountId).build())
+                .transactionType(TransactionType.valueOf(String.valueOf((char) types[i])))
+                .amount(amounts[i])
+                .date(LocalDate.ofEpochDay(dates[i]))
+                .status(STATUS.convertToEntityAttribute(statuses[i]))
+                .build();
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
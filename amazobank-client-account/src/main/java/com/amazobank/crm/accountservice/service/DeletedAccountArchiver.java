@@ -0,0 +1,117 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.amazobank.crm.accountservice.config.SoftDeleteArchiveProperties;
+import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.UuidV7;
+
+/**
+ * Moves accounts that were soft-deleted longer ago than the grace period from Accounts to AccountsArchive,
+ * and their transactions from Transactions to TransactionsArchive.
+ *
+ * Each chunk is copied and deleted in one transaction, and every statement repeats the status and
+ * deletedAt conditions, so an account restored after it was picked is left where it is with its
+ * transactions. When two tasks
+ * pick the same chunk, the second insert fails on the archive's primary key and that task stops until its
+ * next run.
+ */
+@Service
+public class DeletedAccountArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(DeletedAccountArchiver.class);
+    private static final String COLUMNS = "accountId, clientId, agentId, accountType, accountStatus, openingDate, "
+            + "initialDeposit, currency, branchId, version, deletedAt";
+    private static final String TRANSACTION_COLUMNS = "TransactionID, ClientID, AccountID, TransactionType, Amount, Date, Status";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactions;
+    private final AccountService accountService;
+    private final SoftDeleteArchiveProperties properties;
+    private final Clock clock;
+
+    public DeletedAccountArchiver(JdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+            AccountService accountService, SoftDeleteArchiveProperties properties) {
+        this.jdbc = jdbc;
+        this.transactions = new TransactionTemplate(transactionManager);
+        this.accountService = accountService;
+        this.properties = properties;
+        this.clock = Clock.systemUTC();
+    }
+
+    @Scheduled(fixedDelayString = "${soft-delete-archive.interval:PT1H}",
+            initialDelayString = "${soft-delete-archive.interval:PT1H}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int archived = archive();
+            if (archived > 0) {
+                log.info("Archived {} deleted accounts", archived);
+            }
+        } catch (DuplicateKeyException e) {
+            log.info("Another task is archiving the same deleted accounts; stopping until the next run");
+        } catch (RuntimeException e) {
+            log.warn("Archiving deleted accounts failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archive every account deleted before the grace period, one chunk at a time.
+     *
+     * @return the number of accounts archived
+     */
+    public int archive() {
+        Timestamp cutoff = Timestamp.from(clock.instant().minus(properties.getGrace()));
+        int total = 0;
+        while (true) {
+            List<byte[]> ids = jdbc.queryForList(
+                    "SELECT accountId FROM Accounts WHERE accountStatus = ? AND deletedAt < ? ORDER BY deletedAt LIMIT ?",
+                    byte[].class, AccountStatus.Deleted.code(), cutoff, properties.getChunkSize());
+            if (ids.isEmpty()) {
+                return total;
+            }
+            total += transactions.execute(status -> moveChunk(ids, cutoff));
+            for (byte[] id : ids) {
+                accountService.archived(UuidV7.fromBytes(id).toString());
+            }
+            if (ids.size() < properties.getChunkSize()) {
+                return total;
+            }
+        }
+    }
+
+    private int moveChunk(List<byte[]> ids, Timestamp cutoff) {
+        String condition = " FROM Accounts WHERE accountStatus = ? AND deletedAt < ? AND accountId IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        Object[] args = new Object[ids.size() + 3];
+        args[0] = Timestamp.from(clock.instant());
+        args[1] = AccountStatus.Deleted.code();
+        args[2] = cutoff;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 3] = ids.get(i);
+        }
+        Object[] pickedArgs = Arrays.copyOfRange(args, 1, args.length);
+        String picked = "SELECT accountId" + condition;
+        int copied = jdbc.update("INSERT INTO AccountsArchive (" + COLUMNS + ", archivedAt) SELECT " + COLUMNS + ", ?" + condition, args);
+        jdbc.update("INSERT INTO TransactionsArchive (" + TRANSACTION_COLUMNS + ", ArchivedAt) SELECT " + TRANSACTION_COLUMNS + ", ?"
+                + " FROM Transactions WHERE AccountID IN (" + picked + ")", args);
+        jdbc.update("DELETE FROM Transactions WHERE AccountID IN (" + picked + ")", pickedArgs);
+        jdbc.update("DELETE" + condition, pickedArgs);
+        return copied;
+    }
+}
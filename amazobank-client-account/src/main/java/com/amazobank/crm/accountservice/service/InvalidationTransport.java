@@ -0,0 +1,14 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries batches of {@link EntityChanged} events between tasks.
+ */
+public interface InvalidationTransport {
+
+    void publish(List<EntityChanged> events);
+
+    void subscribe(Consumer<List<EntityChanged>> subscriber);
+}
@@ -0,0 +1,35 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Appends audit events to the AuditEvents table shared by all services, one batch insert per drain.
+ */
+public class JdbcAuditSink implements AuditSink {
+
+    private final JdbcTemplate jdbc;
+    private final String source;
+
+    public JdbcAuditSink(JdbcTemplate jdbc, String source) {
+        this.jdbc = jdbc;
+        this.source = source;
+    }
+
+    @Override
+    public void write(List<AuditEvent> events) {
+        jdbc.batchUpdate(
+                "INSERT INTO AuditEvents (OccurredAt, Source, Action, EntityType, EntityID, AgentID, Detail) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                events, events.size(), (ps, event) -> {
+                    ps.setTimestamp(1, Timestamp.from(event.occurredAt()));
+                    ps.setString(2, source);
+                    ps.setString(3, event.action().name());
+                    ps.setString(4, event.entityType());
+                    ps.setString(5, event.entityId());
+                    ps.setString(6, event.agentId());
+                    ps.setString(7, event.detail());
+                });
+    }
+}
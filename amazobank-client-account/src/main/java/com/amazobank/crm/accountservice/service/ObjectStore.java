@@ -0,0 +1,21 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Immutable blob storage for cold data. Objects are written once and never replaced.
+ */
+public interface ObjectStore {
+
+    /**
+     * Store data under key.
+     *
+     * @throws IOException if the write failed or an object with this key already exists
+     */
+    void put(String key, byte[] data) throws IOException;
+
+    Optional<byte[]> get(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+}
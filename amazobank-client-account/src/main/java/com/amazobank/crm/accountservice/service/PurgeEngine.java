@@ -0,0 +1,250 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.amazobank.crm.accountservice.config.PurgeProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Deletes expired rows in small primary-key-ordered chunks, so no single statement holds locks for long
+ * or produces a burst of binlog for the replicas to apply.
+ *
+ * After each chunk the job pauses in proportion to how long the chunk took, and the chunk size halves
+ * while chunks are slower than the target latency and grows back while they are faster. The last key of
+ * every chunk is stored in PurgeCheckpoints, so a job stopped by maxRunTime or a restart continues where
+ * it left off; once a pass reaches the end of the table the checkpoint is cleared and the next pass starts
+ * from the beginning. All jobs run one after another on a thread of their own.
+ *
+ * Every task runs the same jobs against the shared database, so a job first takes a lease on its
+ * PurgeCheckpoints row and is skipped while another task holds it. Each checkpoint write renews the lease
+ * and only succeeds while this task still holds it, so a task whose lease was taken over stops.
+ */
+@Service
+public class PurgeEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(PurgeEngine.class);
+
+    private final JdbcTemplate jdbc;
+    private final List<PurgeJob> jobs;
+    private final PurgeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> chunkSizes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final String owner = UUID.randomUUID().toString();
+
+    public PurgeEngine(JdbcTemplate jdbc, List<PurgeJob> jobs, PurgeProperties properties, MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.jobs = jobs;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (PurgeJob job : jobs) {
+            AtomicInteger chunkSize = new AtomicInteger(properties.getChunkSize());
+            chunkSizes.put(job.name(), chunkSize);
+            Gauge.builder("purge.chunk.size", chunkSize, AtomicInteger::get)
+                    .description("Rows the purge job currently deletes per statement")
+                    .tag("job", job.name())
+                    .register(meterRegistry);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    public void runAll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (PurgeJob job : jobs) {
+            try {
+                long deleted = purge(job);
+                if (deleted > 0) {
+                    log.info("Purge job {} deleted {} rows", job.name(), deleted);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Purge job {} failed: {}", job.name(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Run one job from its checkpoint until the table is done or maxRunTime is up.
+     *
+     * @return the number of rows deleted, 0 when another task holds the job's lease
+     */
+    public long purge(PurgeJob job) throws InterruptedException {
+        if (!acquire(job)) {
+            log.debug("Purge job {} is running on another task", job.name());
+            return 0;
+        }
+        try {
+            return run(job);
+        } finally {
+            release(job);
+        }
+    }
+
+    private long run(PurgeJob job) throws InterruptedException {
+        Object[] arguments = job.arguments().get();
+        AtomicInteger chunkSize = chunkSizes.computeIfAbsent(job.name(), name -> new AtomicInteger(properties.getChunkSize()));
+        Counter deletedRows = Counter.builder("purge.rows.deleted")
+                .description("Rows deleted by the purge job")
+                .tag("job", job.name())
+                .register(meterRegistry);
+        Timer chunkTimer = Timer.builder("purge.chunk.duration")
+                .description("Time taken to select and delete one chunk")
+                .tag("job", job.name())
+                .register(meterRegistry);
+
+        long deadline = System.nanoTime() + properties.getMaxRunTime().toNanos();
+        Object cursor = checkpoint(job);
+        long deleted = 0;
+        while (true) {
+            int limit = chunkSize.get();
+            long start = System.nanoTime();
+            List<Object> keys = jdbc.queryForList(select(job, cursor != null), Object.class, selectArguments(cursor, arguments, limit));
+            if (keys.isEmpty()) {
+                saveCheckpoint(job, null);
+                return deleted;
+            }
+            job.beforeDelete().accept(keys);
+            int count = jdbc.update(delete(job, keys.size()), deleteArguments(keys, arguments));
+            long elapsed = System.nanoTime() - start;
+
+            chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            deletedRows.increment(count);
+            deleted += count;
+            cursor = keys.get(keys.size() - 1);
+            if (keys.size() < limit) {
+                saveCheckpoint(job, null);
+                return deleted;
+            }
+            if (!saveCheckpoint(job, cursor)) {
+                log.warn("Purge job {} lost its lease after {} rows; stopping", job.name(), deleted);
+                return deleted;
+            }
+            adapt(chunkSize, elapsed);
+            if (System.nanoTime() - deadline >= 0) {
+                log.info("Purge job {} stopped after {} rows; it resumes from its checkpoint on the next run", job.name(), deleted);
+                return deleted;
+            }
+            long sleepNanos = Math.min((long) (elapsed * properties.getSleepRatio()), properties.getMaxSleep().toNanos());
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        }
+    }
+
+    private void adapt(AtomicInteger chunkSize, long elapsedNanos) {
+        int current = chunkSize.get();
+        if (elapsedNanos > properties.getTargetLatency().toNanos()) {
+            chunkSize.set(Math.max(properties.getMinChunkSize(), current / 2));
+        } else if (current < properties.getChunkSize()) {
+            chunkSize.set(Math.min(properties.getChunkSize(), current + Math.max(1, current / 4)));
+        }
+    }
+
+    private static String select(PurgeJob job, boolean fromCursor) {
+        return "SELECT " + job.key() + " FROM " + job.table()
+                + " WHERE " + (fromCursor ? job.key() + " > ? AND " : "") + "(" + job.condition() + ")"
+                + " ORDER BY " + job.key() + " LIMIT ?";
+    }
+
+    private static String delete(PurgeJob job, int size) {
+        // The condition is repeated so a row that stopped matching since the select is kept.
+        return "DELETE FROM " + job.table() + " WHERE " + job.key() + " IN ("
+                + String.join(", ", Collections.nCopies(size, "?")) + ") AND (" + job.condition() + ")";
+    }
+
+    private static Object[] selectArguments(Object cursor, Object[] arguments, int limit) {
+        List<Object> all = new ArrayList<>(arguments.length + 2);
+        if (cursor != null) {
+            all.add(cursor);
+        }
+        Collections.addAll(all, arguments);
+        all.add(limit);
+        return all.toArray();
+    }
+
+    private static Object[] deleteArguments(List<Object> keys, Object[] arguments) {
+        List<Object> all = new ArrayList<>(keys);
+        Collections.addAll(all, arguments);
+        return all.toArray();
+    }
+
+    private Object checkpoint(PurgeJob job) {
+        List<String> found = jdbc.queryForList("SELECT LastKey FROM PurgeCheckpoints WHERE JobName = ?", String.class, job.name());
+        return found.isEmpty() || found.get(0) == null ? null : job.keyType().decode(found.get(0));
+    }
+
+    /**
+     * Take the job's lease if no task holds it or its holder let it expire.
+     */
+    private boolean acquire(PurgeJob job) {
+        Instant now = Instant.now();
+        if (jdbc.update("UPDATE PurgeCheckpoints SET LeaseOwner = ?, LeaseUntil = ? WHERE JobName = ?"
+                + " AND (LeaseOwner IS NULL OR LeaseUntil < ?)", owner, leaseUntil(now), job.name(), Timestamp.from(now)) == 1) {
+            return true;
+        }
+        try {
+            jdbc.update("INSERT INTO PurgeCheckpoints (JobName, LastKey, UpdatedAt, LeaseOwner, LeaseUntil) VALUES (?, NULL, ?, ?, ?)",
+                    job.name(), Timestamp.from(now), owner, leaseUntil(now));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void release(PurgeJob job) {
+        jdbc.update("UPDATE PurgeCheckpoints SET LeaseOwner = NULL, LeaseUntil = NULL WHERE JobName = ? AND LeaseOwner = ?",
+                job.name(), owner);
+    }
+
+    /**
+     * Store the checkpoint and renew the lease.
+     *
+     * @return false if another task has taken the lease over, in which case nothing was stored
+     */
+    private boolean saveCheckpoint(PurgeJob job, Object cursor) {
+        String lastKey = cursor == null ? null : job.keyType().encode(cursor);
+        Instant now = Instant.now();
+        return jdbc.update("UPDATE PurgeCheckpoints SET LastKey = ?, UpdatedAt = ?, LeaseUntil = ? WHERE JobName = ? AND LeaseOwner = ?",
+                lastKey, Timestamp.from(now), leaseUntil(now), job.name(), owner) == 1;
+    }
+
+    private Timestamp leaseUntil(Instant now) {
+        return Timestamp.from(now.plus(properties.getLease()));
+    }
+}
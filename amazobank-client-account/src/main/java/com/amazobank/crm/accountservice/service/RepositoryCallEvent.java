@@ -0,0 +1,21 @@
+package com.amazobank.crm.accountservice.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("amazobank.RepositoryCall")
+@Label("Repository Call")
+@Description("A call on a Spring Data repository, including the queries it runs")
+@Category({"Amazobank", "Database"})
+@StackTrace(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+}
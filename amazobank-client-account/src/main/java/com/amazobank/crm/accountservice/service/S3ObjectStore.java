@@ -0,0 +1,54 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * Object store backed by an S3 bucket. Writes are conditional, so an existing object is never overwritten.
+ */
+public class S3ObjectStore implements ObjectStore {
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+
+    public S3ObjectStore(S3Client s3, String bucket, String prefix) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.prefix = prefix == null ? "" : prefix;
+    }
+
+    @Override
+    public void put(String key, byte[] data) throws IOException {
+        try {
+            s3.putObject(request -> request.bucket(bucket).key(prefix + key).ifNoneMatch("*"), RequestBody.fromBytes(data));
+        } catch (SdkException e) {
+            throw new IOException("Failed to put s3://" + bucket + "/" + prefix + key, e);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) throws IOException {
+        try {
+            return Optional.of(s3.getObjectAsBytes(request -> request.bucket(bucket).key(prefix + key)).asByteArray());
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (SdkException e) {
+            throw new IOException("Failed to get s3://" + bucket + "/" + prefix + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(request -> request.bucket(bucket).key(prefix + key));
+        } catch (SdkException e) {
+            throw new IOException("Failed to delete s3://" + bucket + "/" + prefix + key, e);
+        }
+    }
+}
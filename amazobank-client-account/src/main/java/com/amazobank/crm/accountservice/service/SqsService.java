@@ -1,5 +1,6 @@
 package com.amazobank.crm.accountservice.service;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -7,6 +8,10 @@ import org.springframework.stereotype.Service;
 
 import com.amazobank.crm.accountservice.config.SqsProperties;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.Kind;
+import io.micrometer.observation.transport.SenderContext;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
@@ -15,31 +20,65 @@ import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 public class SqsService {
     private final SqsClient sqsClient;
     private final SqsProperties sqsProperties;
+    private final ObservationRegistry observationRegistry;
     
-    public SqsService(SqsClient sqsClient, SqsProperties sqsProperties) {
+    public SqsService(SqsClient sqsClient, SqsProperties sqsProperties, ObservationRegistry observationRegistry) {
         this.sqsClient = sqsClient;
         this.sqsProperties = sqsProperties;
+        this.observationRegistry = observationRegistry;
     }
 
     public void sendEmailNotification(String email, String messageBody) {
 
         // Create attribute for clientEmail
-        MessageAttributeValue emailAttr = MessageAttributeValue.builder()
-                .dataType("String")
-                .stringValue(email)
-                .build();
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        attributes.put("clientEmail", stringAttribute(email));
+
+        // The tracing handler writes traceparent into the attributes, so the email consumer can continue the trace.
+        SenderContext<Map<String, MessageAttributeValue>> context =
+                new SenderContext<>((carrier, key, value) -> carrier.put(key, stringAttribute(value)), Kind.PRODUCER);
+        context.setCarrier(attributes);
+        context.setRemoteServiceName("sqs");
+
+        String queueUrl = sqsProperties.getQueueUrl();
+        String queueName = queueUrl == null ? "unknown" : queueUrl.substring(queueUrl.lastIndexOf('/') + 1);
+        Observation.createNotStarted("sqs.send", () -> context, observationRegistry)
+                .contextualName(queueName + " send")
+                .lowCardinalityKeyValue("messaging.system", "aws_sqs")
+                .lowCardinalityKeyValue("messaging.destination.name", queueName)
+                .observe(() -> send(queueUrl, queueName, messageBody, attributes));
+    }
 
+    private void send(String queueUrl, String queueName, String messageBody, Map<String, MessageAttributeValue> attributes) {
         SendMessageRequest request = SendMessageRequest.builder()
-                .queueUrl(sqsProperties.getQueueUrl())
+                .queueUrl(queueUrl)
                 .messageBody(messageBody)
                 .messageGroupId("client-account") // required for FIFO queues
                 .messageDeduplicationId(UUID.randomUUID().toString()) // required unless ContentBasedDeduplication = true
-                .messageAttributes(Map.of(
-                        "clientEmail", emailAttr
-                ))
+                .messageAttributes(attributes)
                 .build();
 
-        sqsClient.sendMessage(request);
+        SqsPublishEvent event = new SqsPublishEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            sqsClient.sendMessage(request);
+        } finally {
+            RequestTimings.record(RequestTimings.Phase.Sqs, start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.queue = queueName;
+                event.messageSize = messageBody.length();
+                event.commit();
+            }
+        }
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder()
+                .dataType("String")
+                .stringValue(value)
+                .build();
     }
 
 }
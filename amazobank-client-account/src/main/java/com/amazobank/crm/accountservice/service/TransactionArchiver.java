@@ -0,0 +1,198 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.amazobank.crm.accountservice.config.ColdStorageProperties;
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.domain.Transaction;
+import com.amazobank.crm.accountservice.domain.TransactionSegment;
+import com.amazobank.crm.accountservice.domain.TransactionStatus;
+import com.amazobank.crm.accountservice.domain.TransactionType;
+import com.amazobank.crm.accountservice.domain.UuidV7;
+import com.amazobank.crm.accountservice.repository.TransactionSegmentRepository;
+
+/**
+ * Moves completed transactions older than afterMonths out of Transactions into segments in the object store.
+ *
+ * Archiving happens in two steps so no task ever sees a gap. First the oldest eligible rows are written
+ * to a new segment, the segment is added to the index and every task is told to reload it; the rows stay
+ * in Transactions, and reads drop the duplicates. Once the segment is older than sealDelay its rows are
+ * deleted from Transactions and the segment is marked sealed. No new segment is written while one is
+ * still unsealed, so a row is never picked twice. Segments are never rewritten.
+ *
+ * Every task runs the archiver. A task claims the next segment by inserting its index row before writing
+ * it; the unique Unsealed key rejects the insert while another segment is unsealed, so two tasks never
+ * archive the same rows.
+ */
+@Service
+public class TransactionArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionArchiver.class);
+    private static final TransactionStatus.CodeConverter STATUS = new TransactionStatus.CodeConverter();
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final int DELETE_CHUNK = 500;
+
+    private final JdbcTemplate jdbc;
+    private final ObjectStore objectStore;
+    private final TransactionSegmentRepository segmentRepository;
+    private final InvalidationBus invalidationBus;
+    private final ColdStorageProperties properties;
+    private final Clock clock;
+
+    public TransactionArchiver(JdbcTemplate jdbc, ObjectStore objectStore, TransactionSegmentRepository segmentRepository,
+            InvalidationBus invalidationBus, ColdStorageProperties properties) {
+        this.jdbc = jdbc;
+        this.objectStore = objectStore;
+        this.segmentRepository = segmentRepository;
+        this.invalidationBus = invalidationBus;
+        this.properties = properties;
+        this.clock = Clock.systemUTC();
+    }
+
+    @Scheduled(fixedDelayString = "${cold-storage.archive-interval:PT10M}",
+            initialDelayString = "${cold-storage.archive-interval:PT10M}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            seal();
+            archive();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Transaction archiving failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Write the oldest eligible transactions, up to segmentRows of them from a single month, to a new segment.
+     *
+     * @return the new segment, or empty when there was nothing to archive or a segment is still unsealed
+     */
+    public Optional<TransactionSegment> archive() throws IOException {
+        if (segmentRepository.existsBySealedAtIsNull()) {
+            return Optional.empty();
+        }
+        LocalDate cutoff = YearMonth.now(clock).minusMonths(properties.getAfterMonths()).atDay(1);
+        LocalDate oldest = jdbc.queryForObject("SELECT MIN(Date) FROM Transactions WHERE Status = ? AND Date < ?",
+                LocalDate.class, TransactionStatus.Completed.code(), Date.valueOf(cutoff));
+        if (oldest == null) {
+            return Optional.empty();
+        }
+
+        YearMonth month = YearMonth.from(oldest);
+        LocalDate end = month.plusMonths(1).atDay(1);
+        List<Transaction> rows = jdbc.query(
+                "SELECT TransactionID, ClientID, AccountID, TransactionType, Amount, Date, Status FROM Transactions "
+                        + "WHERE Status = ? AND Date >= ? AND Date < ? ORDER BY Date, TransactionID LIMIT ?",
+                TransactionArchiver::row,
+                TransactionStatus.Completed.code(), Date.valueOf(month.atDay(1)), Date.valueOf(end.isBefore(cutoff) ? end : cutoff),
+                properties.getSegmentRows());
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ColumnarSegment segment = ColumnarSegment.of(rows);
+        TransactionSegment entry = TransactionSegment.builder()
+                .segmentKey("transactions/" + month.format(MONTH) + "/" + UuidV7.next() + ".seg")
+                .minDate(segment.minDate())
+                .maxDate(segment.maxDate())
+                .minTransactionId(segment.minTransactionId())
+                .maxTransactionId(segment.maxTransactionId())
+                .accountFilter(segment.accountFilter().toBytes())
+                .rowCount(segment.size())
+                .createdAt(clock.instant())
+                .build();
+        String key = entry.getSegmentKey();
+        try {
+            jdbc.update("INSERT INTO TransactionSegments (SegmentKey, MinDate, MaxDate, MinTransactionId, MaxTransactionId, "
+                    + "AccountFilter, RowCount, CreatedAt, Unsealed) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1)", key,
+                    Date.valueOf(entry.getMinDate()), Date.valueOf(entry.getMaxDate()), entry.getMinTransactionId(),
+                    entry.getMaxTransactionId(), entry.getAccountFilter(), entry.getRowCount(), Timestamp.from(entry.getCreatedAt()));
+        } catch (DuplicateKeyException e) {
+            log.debug("Another task is archiving {}", month);
+            return Optional.empty();
+        }
+        try {
+            objectStore.put(key, segment.toBytes());
+        } catch (IOException | RuntimeException e) {
+            jdbc.update("DELETE FROM TransactionSegments WHERE SegmentKey = ?", key);
+            throw e;
+        }
+        invalidationBus.publish(ColdTransactionStore.SEGMENTS, key, null);
+        log.info("Archived {} transactions from {} to {}", segment.size(), month, key);
+        return Optional.of(entry);
+    }
+
+    /**
+     * Delete the rows of every segment written more than sealDelay ago from Transactions. A segment claimed
+     * that long ago but never written is dropped from the index instead.
+     *
+     * @return the number of segments sealed
+     */
+    public int seal() throws IOException {
+        Instant cutoff = clock.instant().minus(properties.getSealDelay());
+        int sealed = 0;
+        for (TransactionSegment entry : segmentRepository.findBySealedAtIsNullAndCreatedAtBefore(cutoff)) {
+            Optional<byte[]> data = objectStore.get(entry.getSegmentKey());
+            if (data.isEmpty()) {
+                // The task that claimed it died before writing it. Its rows never left Transactions, so
+                // dropping the claim lets the next run archive them again.
+                jdbc.update("DELETE FROM TransactionSegments WHERE SegmentKey = ? AND SealedAt IS NULL", entry.getSegmentKey());
+                invalidationBus.publish(ColdTransactionStore.SEGMENTS, entry.getSegmentKey(), null);
+                log.warn("Dropped abandoned claim {}: the segment was never written", entry.getSegmentKey());
+                continue;
+            }
+            List<byte[]> ids = ColumnarSegment.read(data.get()).transactionIds();
+            int deleted = 0;
+            for (int from = 0; from < ids.size(); from += DELETE_CHUNK) {
+                List<byte[]> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK, ids.size()));
+                // The date bounds let MySQL prune the delete to the segment's partitions.
+                Object[] args = new Object[chunk.size() + 2];
+                args[0] = Date.valueOf(entry.getMinDate());
+                args[1] = Date.valueOf(entry.getMaxDate());
+                for (int i = 0; i < chunk.size(); i++) {
+                    args[i + 2] = chunk.get(i);
+                }
+                deleted += jdbc.update("DELETE FROM Transactions WHERE Date BETWEEN ? AND ? AND TransactionID IN ("
+                        + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")", args);
+            }
+            entry.setSealedAt(clock.instant());
+            jdbc.update("UPDATE TransactionSegments SET SealedAt = ?, Unsealed = NULL WHERE SegmentKey = ?",
+                    Timestamp.from(entry.getSealedAt()), entry.getSegmentKey());
+            sealed++;
+            log.info("Sealed {}: deleted {} archived transactions", entry.getSegmentKey(), deleted);
+        }
+        return sealed;
+    }
+
+    private static Transaction row(ResultSet rs, int rowNum) throws SQLException {
+        return Transaction.builder()
+                .transactionId(UuidV7.fromBytes(rs.getBytes("TransactionID")).toString())
+                .clientId(rs.getString("ClientID"))
+                .account(Account.builder().accountId(UuidV7.fromBytes(rs.getBytes("AccountID")).toString()).build())
+                .transactionType(TransactionType.valueOf(rs.getString("TransactionType")))
+                .amount(rs.getDouble("Amount"))
+                .date(rs.getDate("Date").toLocalDate())
+                .status(STATUS.convertToEntityAttribute(rs.getByte("Status")))
+                .build();
+    }
+}
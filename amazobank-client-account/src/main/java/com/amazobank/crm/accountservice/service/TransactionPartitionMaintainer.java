@@ -0,0 +1,103 @@
+package com.amazobank.crm.accountservice.service;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.amazobank.crm.accountservice.config.TransactionPartitionProperties;
+import com.amazobank.crm.accountservice.repository.TransactionPartitions;
+
+/**
+ * Keeps the monthly partitions of Transactions rolling forward.
+ *
+ * Each run makes sure the current month and the next monthsAhead months have partitions of their own,
+ * and detaches months that have fallen out of the retention window. Every task runs this job; when two
+ * race, the loser's DDL fails on the partition the winner already changed and the next run re-plans.
+ * Nothing happens unless the table is actually partitioned, which only the MySQL migration does.
+ */
+@Service
+public class TransactionPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionMaintainer.class);
+
+    private final JdbcTemplate jdbc;
+    private final TransactionPartitionProperties properties;
+    private final Clock clock;
+
+    public TransactionPartitionMaintainer(JdbcTemplate jdbc, TransactionPartitionProperties properties) {
+        this.jdbc = jdbc;
+        this.properties = properties;
+        this.clock = Clock.systemUTC();
+    }
+
+    @Scheduled(fixedDelayString = "${transaction-partitions.maintenance-interval:PT6H}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<String> partitions = partitions();
+        if (partitions.isEmpty()) {
+            log.debug("Transactions is not partitioned; skipping partition maintenance");
+            return;
+        }
+
+        for (String statement : plan(partitions, YearMonth.now(clock))) {
+            try {
+                jdbc.execute(statement);
+                log.info("Partition maintenance: {}", statement);
+            } catch (DataAccessException e) {
+                log.warn("Partition maintenance stopped at '{}': {}", statement, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * The DDL that brings the given partitions in line with the window around the current month.
+     */
+    public List<String> plan(Collection<String> partitions, YearMonth current) {
+        TreeSet<YearMonth> months = partitions.stream()
+                .map(TransactionPartitions::month)
+                .filter(Objects::nonNull)
+                .collect(TreeSet::new, TreeSet::add, TreeSet::addAll);
+
+        List<String> statements = new ArrayList<>();
+        List<YearMonth> missing = new ArrayList<>();
+        YearMonth next = months.isEmpty() ? current : months.last().plusMonths(1);
+        for (YearMonth month = next; !month.isAfter(current.plusMonths(properties.getMonthsAhead())); month = month.plusMonths(1)) {
+            missing.add(month);
+        }
+        if (!missing.isEmpty()) {
+            statements.add(TransactionPartitions.split(missing));
+        }
+
+        YearMonth oldestRetained = current.minusMonths(properties.getRetentionMonths());
+        for (YearMonth month : months.headSet(oldestRetained)) {
+            statements.addAll(TransactionPartitions.detach(month));
+        }
+        return statements;
+    }
+
+    private List<String> partitions() {
+        boolean mysql = Boolean.TRUE.equals(jdbc.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().contains("MySQL")));
+        if (!mysql) {
+            return List.of();
+        }
+        return jdbc.queryForList("SELECT PARTITION_NAME FROM INFORMATION_SCHEMA.PARTITIONS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'Transactions' AND PARTITION_NAME IS NOT NULL",
+                String.class);
+    }
+}
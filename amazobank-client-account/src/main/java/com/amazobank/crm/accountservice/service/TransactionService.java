@@ -1,35 +1,97 @@
 package com.amazobank.crm.accountservice.service;
 
+import com.amazobank.crm.accountservice.config.TransactionPartitionProperties;
 import com.amazobank.crm.accountservice.domain.Transaction;
-import com.amazobank.crm.accountservice.repository.AccountRepository;
+import com.amazobank.crm.accountservice.domain.UuidV7;
 import com.amazobank.crm.accountservice.repository.TransactionRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NonNull;
 
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class TransactionService {
 
+    /**
+     * Largest value of a MySQL DATE, used as the upper bound when the caller gives none.
+     */
+    private static final LocalDate LAST_DATE = LocalDate.of(9999, 12, 31);
+
     private final TransactionRepository transactionRepository;
-    private final AccountRepository accountRepository;
+    private final ColdTransactionStore coldStore;
+    private final TransactionPartitionProperties partitionProperties;
+    private final Clock clock;
+    private final SingleFlight<String, List<Transaction>> byAccountId;
 
-    public TransactionService(TransactionRepository transactionRepository, AccountRepository accountRepository) {
+    public TransactionService(TransactionRepository transactionRepository, ColdTransactionStore coldStore,
+            TransactionPartitionProperties partitionProperties, MeterRegistry meterRegistry) {
         this.transactionRepository = transactionRepository;
-        this.accountRepository = accountRepository;
+        this.coldStore = coldStore;
+        this.partitionProperties = partitionProperties;
+        this.clock = Clock.systemUTC();
+        // Transactions are only ever read here, so waiting callers can share the same list.
+        this.byAccountId = new SingleFlight<>("transactions", meterRegistry, List::copyOf);
     }
 
     public List<Transaction> findByAccountId(@NonNull String accountId) {
-        return transactionRepository.findByAccountAccountId(accountId);
+        return findByAccountId(accountId, null, null);
+    }
+
+    /**
+     * Transactions dated from through to, inclusive. Either bound may be null; the range never reaches
+     * further back than the retention window, since older months are no longer in the table.
+     * Archived transactions are read from cold storage; a transaction in both places is returned once.
+     */
+    public List<Transaction> findByAccountId(@NonNull String accountId, LocalDate from, LocalDate to) {
+        if (!UuidV7.isValid(accountId)) {
+            return List.of();
+        }
+        LocalDate start = from == null || from.isBefore(retainedFrom()) ? retainedFrom() : from;
+        LocalDate end = to == null ? LAST_DATE : to;
+        return byAccountId.execute(accountId + "/" + start + "/" + end,
+                () -> merge(transactionRepository.findByAccountAccountIdAndDateBetween(accountId, start, end),
+                        coldStore.findByAccountId(accountId, start, end)));
     }
 
     public Optional<Transaction> findByAccountIdAndTransactionId(@NonNull String accountId, String transactionId) {
-        if (!accountRepository.existsById(accountId)) {
+        if (!UuidV7.isValid(accountId) || !UuidV7.isValid(transactionId)) {
             return Optional.empty();
         }
-        return transactionRepository.findByAccountAccountIdAndTransactionId(accountId, transactionId);
+        // The query is scoped to the account, so a missing account already yields no transaction.
+        LocalDate start = retainedFrom();
+        return transactionRepository.findByAccountAccountIdAndTransactionIdAndDateGreaterThanEqual(accountId, transactionId, start)
+                .or(() -> coldStore.find(accountId, transactionId, start));
+    }
+
+    /**
+     * Hot rows followed by the archived rows not among them. A row is in both places between being
+     * archived and its segment being sealed.
+     */
+    private static List<Transaction> merge(List<Transaction> hot, List<Transaction> cold) {
+        if (cold.isEmpty()) {
+            return hot;
+        }
+        Set<String> seen = hot.stream().map(Transaction::getTransactionId).collect(Collectors.toSet());
+        List<Transaction> merged = new ArrayList<>(hot);
+        for (Transaction transaction : cold) {
+            if (seen.add(transaction.getTransactionId())) {
+                merged.add(transaction);
+            }
+        }
+        return merged;
+    }
+
+    private LocalDate retainedFrom() {
+        return YearMonth.now(clock).minusMonths(partitionProperties.getRetentionMonths()).atDay(1);
     }
 }
@@ -0,0 +1,6 @@
+-- The lowest and highest transaction id in each segment, as lowercase UUID text, so a lookup by id only
+-- fetches the segments whose range covers it. Transaction ids are time-ordered, so the ranges of
+-- different months barely overlap. Segments written before this migration have no range and are
+-- always searched.
+ALTER TABLE TransactionSegments ADD COLUMN MinTransactionId VARCHAR(36) NULL;
+ALTER TABLE TransactionSegments ADD COLUMN MaxTransactionId VARCHAR(36) NULL;
@@ -0,0 +1,15 @@
+-- An archived account's transactions move out of the partitioned Transactions table together with the
+-- account, in the same transaction, so Transactions never holds rows of an account that is gone.
+CREATE TABLE TransactionsArchive (
+    TransactionID BINARY(16) NOT NULL,
+    ClientID VARCHAR(36) NOT NULL,
+    AccountID BINARY(16) NOT NULL,
+    TransactionType VARCHAR(1) NOT NULL,
+    Amount DOUBLE NOT NULL,
+    Date DATE NOT NULL,
+    Status TINYINT NOT NULL,
+    ArchivedAt DATETIME(6) NOT NULL,
+    PRIMARY KEY (TransactionID),
+    INDEX IdxTransactionsArchiveAccountId (AccountID),
+    INDEX IdxTransactionsArchiveArchivedAt (ArchivedAt)
+);
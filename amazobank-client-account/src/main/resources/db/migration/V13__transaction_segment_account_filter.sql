@@ -0,0 +1,4 @@
+-- A Bloom filter over each segment's account ids, so a read for one account, with or without a date
+-- range, only fetches the segments that account has rows in. Segments written before this migration
+-- have no filter and are always searched.
+ALTER TABLE TransactionSegments ADD COLUMN AccountFilter MEDIUMBLOB NULL;
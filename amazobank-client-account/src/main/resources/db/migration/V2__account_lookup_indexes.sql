@@ -0,0 +1,6 @@
+-- findByAgentId and findByClientId filter Accounts on these columns.
+CREATE INDEX IdxAccountsAgentId ON Accounts (agentId);
+CREATE INDEX IdxAccountsClientId ON Accounts (clientId);
+
+-- findByAccountAccountId reads an account's transactions; Date second so they come back in date order.
+CREATE INDEX IdxTransactionsAccountDate ON Transactions (AccountID, Date);
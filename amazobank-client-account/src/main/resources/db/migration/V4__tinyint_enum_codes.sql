@@ -0,0 +1,26 @@
+-- Status and type columns move from their enum names to the TINYINT codes declared on each enum
+-- (AccountType, AccountStatus, TransactionStatus). Each column is copied, dropped and renamed.
+--   accountType:   1 Savings, 2 Checking, 3 Business
+--   accountStatus: 1 Active, 2 Inactive, 3 Pending, 4 Deleted
+--   Status:        1 Completed, 2 Pending, 3 Failed
+
+ALTER TABLE Accounts ADD COLUMN accountTypeCode TINYINT NULL;
+UPDATE Accounts SET accountTypeCode = CASE accountType
+    WHEN 'Savings' THEN 1 WHEN 'Checking' THEN 2 WHEN 'Business' THEN 3 END;
+ALTER TABLE Accounts DROP COLUMN accountType;
+ALTER TABLE Accounts RENAME COLUMN accountTypeCode TO accountType;
+ALTER TABLE Accounts MODIFY COLUMN accountType TINYINT NOT NULL;
+
+ALTER TABLE Accounts ADD COLUMN accountStatusCode TINYINT NULL;
+UPDATE Accounts SET accountStatusCode = CASE accountStatus
+    WHEN 'Active' THEN 1 WHEN 'Inactive' THEN 2 WHEN 'Pending' THEN 3 WHEN 'Deleted' THEN 4 END;
+ALTER TABLE Accounts DROP COLUMN accountStatus;
+ALTER TABLE Accounts RENAME COLUMN accountStatusCode TO accountStatus;
+ALTER TABLE Accounts MODIFY COLUMN accountStatus TINYINT NOT NULL;
+
+ALTER TABLE Transactions ADD COLUMN StatusCode TINYINT NULL;
+UPDATE Transactions SET StatusCode = CASE Status
+    WHEN 'Completed' THEN 1 WHEN 'Pending' THEN 2 WHEN 'Failed' THEN 3 END;
+ALTER TABLE Transactions DROP COLUMN Status;
+ALTER TABLE Transactions RENAME COLUMN StatusCode TO Status;
+ALTER TABLE Transactions MODIFY COLUMN Status TINYINT NOT NULL;
@@ -0,0 +1,11 @@
+-- Index of the cold-storage segments that completed transactions are archived into. Reads pick
+-- segments by date range from an in-memory copy of this table, so it needs no secondary index.
+CREATE TABLE TransactionSegments (
+    SegmentKey VARCHAR(100) NOT NULL,
+    MinDate DATE NOT NULL,
+    MaxDate DATE NOT NULL,
+    RowCount INT NOT NULL,
+    CreatedAt DATETIME(6) NOT NULL,
+    SealedAt DATETIME(6) NULL,
+    PRIMARY KEY (SegmentKey)
+);
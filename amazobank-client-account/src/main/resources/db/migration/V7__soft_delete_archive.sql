@@ -0,0 +1,23 @@
+-- Accounts deleted for longer than the grace period move to AccountsArchive, so Accounts and its indexes
+-- only hold live rows. deletedAt records when an account was deleted; accounts deleted before this
+-- migration start their grace period now.
+ALTER TABLE Accounts ADD COLUMN deletedAt DATETIME(6) NULL;
+UPDATE Accounts SET deletedAt = CURRENT_TIMESTAMP(6) WHERE accountStatus = 4;
+CREATE INDEX IdxAccountsDeletedAt ON Accounts (deletedAt);
+
+CREATE TABLE AccountsArchive (
+    accountId BINARY(16) NOT NULL,
+    clientId VARCHAR(36) NOT NULL,
+    agentId VARCHAR(36) NOT NULL,
+    accountType TINYINT NOT NULL,
+    accountStatus TINYINT NOT NULL,
+    openingDate DATE NOT NULL,
+    initialDeposit DOUBLE NOT NULL,
+    currency VARCHAR(10) NOT NULL,
+    branchId VARCHAR(20) NULL,
+    version BIGINT NOT NULL,
+    deletedAt DATETIME(6) NOT NULL,
+    archivedAt DATETIME(6) NOT NULL,
+    PRIMARY KEY (accountId),
+    INDEX IdxAccountsArchiveClientId (clientId)
+);
@@ -0,0 +1,6 @@
+-- Unsealed is 1 while a segment is unsealed and NULL once it is sealed. The unique key allows only one
+-- unsealed segment at a time, so an archiver claims the next segment by inserting its index row before
+-- writing it to the object store, and a task that loses the race gets a duplicate key instead.
+ALTER TABLE TransactionSegments ADD COLUMN Unsealed TINYINT NULL;
+UPDATE TransactionSegments SET Unsealed = 1 WHERE SealedAt IS NULL;
+ALTER TABLE TransactionSegments ADD CONSTRAINT UK_TransactionSegments_Unsealed UNIQUE (Unsealed);
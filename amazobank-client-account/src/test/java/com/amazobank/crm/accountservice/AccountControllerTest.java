@@ -1,6 +1,7 @@
 package com.amazobank.crm.accountservice;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -29,16 +30,20 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.amazobank.crm.accountservice.api.AccountController;
+import com.amazobank.crm.accountservice.api.JsonCache;
 import com.amazobank.crm.accountservice.domain.Account;
 import com.amazobank.crm.accountservice.domain.AccountStatus;
 import com.amazobank.crm.accountservice.domain.AccountType;
 import com.amazobank.crm.accountservice.security.SecurityConfig;
 import com.amazobank.crm.accountservice.service.AccountService;
+import com.amazobank.crm.accountservice.service.AuditLog;
+import com.amazobank.crm.accountservice.service.ClientDirectory;
+import com.amazobank.crm.accountservice.service.ClientDirectory.ClientRef;
 import com.amazobank.crm.accountservice.service.SqsService;
 
 @WebMvcTest(AccountController.class)
 @AutoConfigureMockMvc
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, JsonCache.class})
 public class AccountControllerTest {
 
     @Autowired
@@ -50,6 +55,12 @@ public class AccountControllerTest {
     @MockitoBean
     private SqsService sqsService;
 
+    @MockitoBean
+    private ClientDirectory clientDirectory;
+
+    @MockitoBean
+    private AuditLog auditLog;
+
     @BeforeEach
     void stubSqsNotifications() {
         doNothing().when(sqsService).sendEmailNotification(any(), any()); // Notification side-effect not needed for controller tests
@@ -125,15 +136,17 @@ public class AccountControllerTest {
             .branchId("branch-001")
             .build();
         
-        when(service.findByAgentId(agentId)).thenReturn(List.of(account));
+        when(service.findByAgentIdAndClientId(agentId, clientId.toString())).thenReturn(List.of(account));
         
         // Act & Assert
         mockMvc.perform(get("/api/accounts")
                 .param("clientId", clientId.toString()))
             .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
             .andExpect(jsonPath("$[0].clientId").value(clientId.toString()));
         
-        verify(service).findByAgentId(agentId);
+        verify(service).findByAgentIdAndClientId(agentId, clientId.toString());
+        verify(service, never()).findByAgentId(any());
     }
 
     @Test
@@ -177,6 +190,44 @@ public class AccountControllerTest {
         verify(service).findById(accountId);
     }
 
+    @Test
+    @WithMockUser(username = "a1b2c3d4-5678-90ab-cdef-111111111111", roles = {"AGENT"})
+    void getOne_whenVersionUnchanged_shouldServeCachedJson() throws Exception {
+        // Arrange
+        String accountId = "acc-cached";
+        String agentId = "a1b2c3d4-5678-90ab-cdef-111111111111";
+
+        Account account = Account.builder()
+            .accountId(accountId)
+            .clientId("client-001")
+            .agentId(agentId)
+            .accountType(AccountType.Savings)
+            .accountStatus(AccountStatus.Active)
+            .openingDate(LocalDate.of(2024, 1, 15))
+            .initialDeposit(5000.00)
+            .currency("USD")
+            .branchId("branch-001")
+            .version(1L)
+            .build();
+
+        when(service.findById(accountId)).thenReturn(Optional.of(account));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/accounts/{id}", accountId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.branchId").value("branch-001"));
+
+        account.setBranchId("branch-002");
+        mockMvc.perform(get("/api/accounts/{id}", accountId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.branchId").value("branch-001"));
+
+        account.setVersion(2L);
+        mockMvc.perform(get("/api/accounts/{id}", accountId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.branchId").value("branch-002"));
+    }
+
     @Test
     @WithMockUser(username = "f9e8d7c6-1234-5678-90ab-222222222222", roles = {"AGENT"})
     void getOne_whenAccountBelongsToDifferentAgent_shouldReturn403() throws Exception {
@@ -276,6 +327,59 @@ public class AccountControllerTest {
         verify(service).save(any(Account.class));
     }
 
+    @Test
+    @WithMockUser(username = "a1b2c3d4-5678-90ab-cdef-111111111111", roles = {"AGENT"})
+    void create_whenClientKnownLocally_shouldUseDirectoryEmail() throws Exception {
+        // Arrange
+        String agentId = "a1b2c3d4-5678-90ab-cdef-111111111111";
+        String requestBody = """
+            {
+                "clientId": "client-001",
+                "accountType": "Savings",
+                "initialDeposit": 5000.00,
+                "currency": "USD"
+            }
+            """;
+
+        when(clientDirectory.find("client-001"))
+            .thenReturn(Optional.of(new ClientRef(agentId, "client@example.com", "Active", 1)));
+        when(service.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+            .andExpect(status().isCreated());
+
+        verify(sqsService).sendEmailNotification(eq("client@example.com"), any());
+    }
+
+    @Test
+    @WithMockUser(username = "a1b2c3d4-5678-90ab-cdef-111111111111", roles = {"AGENT"})
+    void create_whenClientOwnedByDifferentAgent_shouldReturn403() throws Exception {
+        // Arrange
+        String requestBody = """
+            {
+                "clientId": "client-001",
+                "accountType": "Savings",
+                "initialDeposit": 5000.00,
+                "currency": "USD"
+            }
+            """;
+
+        when(clientDirectory.find("client-001"))
+            .thenReturn(Optional.of(new ClientRef("f9e8d7c6-1234-5678-90ab-222222222222", "client@example.com", "Active", 1)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+            .andExpect(status().isForbidden())
+            .andExpect(jsonPath("$.error").value("Forbidden"));
+
+        verify(service, never()).save(any());
+    }
+
     @Test
     void create_withoutAuth_shouldReturn401() throws Exception {
         String requestBody = """
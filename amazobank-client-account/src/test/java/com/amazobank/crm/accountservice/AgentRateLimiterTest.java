@@ -0,0 +1,61 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.accountservice.security.AgentRateLimiter;
+
+class AgentRateLimiterTest {
+
+    private long now = 0;
+    private final AgentRateLimiter limiter = new AgentRateLimiter(3, 1, Duration.ofMinutes(1), () -> now);
+
+    @Test
+    void tryAcquire_whenBurstUsedUp_shouldReturnWaitUntilNextToken() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, limiter.tryAcquire("agent-1"));
+        }
+
+        assertEquals(Duration.ofSeconds(1), limiter.tryAcquire("agent-1"));
+
+        now += TimeUnit.SECONDS.toNanos(1);
+        assertEquals(Duration.ZERO, limiter.tryAcquire("agent-1"));
+    }
+
+    @Test
+    void tryAcquire_whenOtherAgentThrottled_shouldNotBeAffected() {
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("agent-1");
+        }
+
+        assertEquals(Duration.ZERO, limiter.tryAcquire("agent-2"));
+    }
+
+    @Test
+    void tryAcquire_whenCalledConcurrently_shouldNeverExceedCapacity() throws Exception {
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 200; i++) {
+                executor.submit(() -> {
+                    if (limiter.tryAcquire("agent-1").isZero()) {
+                        allowed.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(3, allowed.get());
+    }
+}
@@ -0,0 +1,68 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.accountservice.config.AuditProperties;
+import com.amazobank.crm.accountservice.service.AuditAction;
+import com.amazobank.crm.accountservice.service.AuditEvent;
+import com.amazobank.crm.accountservice.service.AuditLog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditLogTest {
+
+    private final List<AuditEvent> written = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void flush_shouldWriteEventsInOrderAndInBatches() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        AuditLog audit = new AuditLog(events -> {
+            batchSizes.add(events.size());
+            written.addAll(events);
+        }, properties(16, 2), meterRegistry);
+
+        audit.record(AuditAction.Created, "account", "acc-1", "agent-1");
+        audit.record(AuditAction.Updated, "account", "acc-1", "agent-1");
+        audit.record(AuditAction.Forbidden, "account", "acc-1", "agent-2", "delete; owner agent-1");
+        audit.flush();
+
+        assertEquals(List.of(AuditAction.Created, AuditAction.Updated, AuditAction.Forbidden),
+                written.stream().map(AuditEvent::action).toList());
+        assertEquals("agent-2", written.get(2).agentId());
+        assertEquals(List.of(2, 1), batchSizes);
+    }
+
+    @Test
+    void record_whenBufferFull_shouldDropAndCount() throws Exception {
+        AuditLog audit = new AuditLog(written::addAll, properties(4, 100), meterRegistry);
+        // Stop the drain thread, which a half-full ring wakes early, so only the test drains the buffer.
+        audit.close();
+
+        for (int i = 0; i < 6; i++) {
+            audit.record(AuditAction.Created, "account", "acc-" + i, "agent-1");
+        }
+        audit.flush();
+        audit.record(AuditAction.Deleted, "account", "acc-0", "agent-1");
+        audit.flush();
+
+        assertEquals(List.of("acc-0", "acc-1", "acc-2", "acc-3", "acc-0"),
+                written.stream().map(AuditEvent::entityId).toList());
+        assertEquals(2.0, meterRegistry.counter("audit.events.dropped").count());
+    }
+
+    private static AuditProperties properties(int capacity, int batchSize) {
+        AuditProperties properties = new AuditProperties();
+        properties.setCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        // Drain only when the test asks for it.
+        properties.setFlushInterval(Duration.ofHours(1));
+        return properties;
+    }
+}
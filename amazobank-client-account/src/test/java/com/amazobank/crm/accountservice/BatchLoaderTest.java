@@ -0,0 +1,92 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.service.BatchLoader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BatchLoaderTest {
+
+    private final List<Collection<String>> queries = new CopyOnWriteArrayList<>();
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BatchLoader<String, Account> loader;
+
+    @AfterEach
+    void tearDown() {
+        loader.close();
+    }
+
+    @Test
+    void loadAsync_whenLookupsArriveWithinWindow_shouldResolveThemWithOneQuery() {
+        loader = loader(Duration.ofMillis(50), 100);
+
+        CompletableFuture<Optional<Account>> first = loader.loadAsync("acc-1");
+        CompletableFuture<Optional<Account>> second = loader.loadAsync("acc-2");
+        CompletableFuture<Optional<Account>> missing = loader.loadAsync("missing");
+
+        assertEquals("acc-1", first.join().orElseThrow().getAccountId());
+        assertEquals("acc-2", second.join().orElseThrow().getAccountId());
+        assertTrue(missing.join().isEmpty());
+        assertEquals(1, queries.size());
+        assertEquals(3.0, meterRegistry.get("repository.batch.size").summary().max());
+    }
+
+    @Test
+    void loadAsync_whenBatchSizeReached_shouldNotWaitForWindow() {
+        loader = loader(Duration.ofHours(1), 2);
+
+        CompletableFuture<Optional<Account>> first = loader.loadAsync("acc-1");
+        CompletableFuture<Optional<Account>> second = loader.loadAsync("acc-2");
+
+        assertEquals("acc-1", first.join().orElseThrow().getAccountId());
+        assertEquals("acc-2", second.join().orElseThrow().getAccountId());
+        assertEquals(1, queries.size());
+    }
+
+    @Test
+    void load_whenCallerHoldsBoundResources_shouldQueryOnTheCallersThread() {
+        loader = loader(Duration.ofHours(1), 100);
+        Object key = new Object();
+        TransactionSynchronizationManager.bindResource(key, "connection");
+        try {
+            assertEquals("acc-1", loader.load("acc-1").orElseThrow().getAccountId());
+            assertTrue(loader.load("missing").isEmpty());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(key);
+        }
+
+        assertEquals(List.of(Thread.currentThread().getName(), Thread.currentThread().getName()), threads);
+    }
+
+    private BatchLoader<String, Account> loader(Duration window, int maxBatchSize) {
+        return new BatchLoader<>("accounts", this::findAllById, Account::getAccountId, window, maxBatchSize, 1, meterRegistry);
+    }
+
+    private List<Account> findAllById(Collection<String> ids) {
+        queries.add(ids);
+        threads.add(Thread.currentThread().getName());
+        List<Account> found = new ArrayList<>();
+        for (String id : ids) {
+            if (id.startsWith("acc-")) {
+                found.add(Account.builder().accountId(id).build());
+            }
+        }
+        return found;
+    }
+}
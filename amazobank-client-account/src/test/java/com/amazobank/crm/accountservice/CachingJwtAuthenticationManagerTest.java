@@ -0,0 +1,114 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import com.amazobank.crm.accountservice.security.CachingJwtAuthenticationManager;
+import com.amazobank.crm.accountservice.security.CognitoGroupGrantedAuthoritiesConverter;
+import com.amazobank.crm.accountservice.security.VerifiedJwtCache;
+
+class CachingJwtAuthenticationManagerTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Instant NOW = Instant.parse("2025-11-14T09:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private JwtDecoder decoder;
+    private VerifiedJwtCache cache;
+    private CachingJwtAuthenticationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        decoder = mock(JwtDecoder.class);
+        cache = new VerifiedJwtCache(100, Duration.ofMinutes(10), clock);
+
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(new CognitoGroupGrantedAuthoritiesConverter());
+        manager = new CachingJwtAuthenticationManager(decoder, converter, cache);
+
+        when(decoder.decode(TOKEN)).thenReturn(jwt(NOW.plusSeconds(300)));
+    }
+
+    @Test
+    void authenticate_whenTokenSeenBefore_shouldSkipVerification() {
+        Authentication first = manager.authenticate(new BearerTokenAuthenticationToken(TOKEN));
+        Authentication second = manager.authenticate(new BearerTokenAuthenticationToken(TOKEN));
+
+        verify(decoder, times(1)).decode(TOKEN);
+        assertNotSame(first, second);
+        assertEquals("agent-1", second.getName());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+    }
+
+    @Test
+    void authenticate_whenCachedTokenExpired_shouldVerifyAgain() {
+        manager.authenticate(new BearerTokenAuthenticationToken(TOKEN));
+
+        clock.now = NOW.plusSeconds(300);
+        manager.authenticate(new BearerTokenAuthenticationToken(TOKEN));
+
+        verify(decoder, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void authenticate_whenSigningKeyRevoked_shouldVerifyAgain() {
+        manager.authenticate(new BearerTokenAuthenticationToken(TOKEN));
+
+        cache.retainKeys(List.of("rotated-kid"));
+        manager.authenticate(new BearerTokenAuthenticationToken(TOKEN));
+
+        verify(decoder, times(2)).decode(TOKEN);
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "RS256")
+                .header("kid", "kid-1")
+                .subject("agent-1")
+                .claim("cognito:groups", List.of("Agent"))
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
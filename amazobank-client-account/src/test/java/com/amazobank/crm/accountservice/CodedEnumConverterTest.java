@@ -0,0 +1,46 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.CodedEnum;
+import com.amazobank.crm.accountservice.domain.CodedEnumConverter;
+
+class CodedEnumConverterTest {
+
+    @Test
+    void convert_shouldRoundTripEveryConstantThroughItsCode() {
+        AccountStatus.CodeConverter converter = new AccountStatus.CodeConverter();
+
+        for (AccountStatus status : AccountStatus.values()) {
+            assertEquals(status, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(status)));
+        }
+        assertEquals((byte) 4, converter.convertToDatabaseColumn(AccountStatus.Deleted));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    void convertToEntityAttribute_whenCodeUnknown_shouldFail() {
+        AccountStatus.CodeConverter converter = new AccountStatus.CodeConverter();
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute((byte) 99));
+    }
+
+    @Test
+    void constructor_whenTwoConstantsShareACode_shouldFail() {
+        assertThrows(IllegalStateException.class, () -> new CodedEnumConverter<>(Clash.class) {});
+    }
+
+    private enum Clash implements CodedEnum {
+        First, Second;
+
+        @Override
+        public byte code() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.AccountType;
+import com.amazobank.crm.accountservice.domain.Transaction;
+import com.amazobank.crm.accountservice.domain.TransactionSegment;
+import com.amazobank.crm.accountservice.domain.TransactionStatus;
+import com.amazobank.crm.accountservice.domain.TransactionType;
+import com.amazobank.crm.accountservice.domain.UuidV7;
+import com.amazobank.crm.accountservice.repository.AccountRepository;
+import com.amazobank.crm.accountservice.repository.TransactionRepository;
+import com.amazobank.crm.accountservice.repository.TransactionSegmentRepository;
+import com.amazobank.crm.accountservice.security.PreloadedJwkSource;
+import com.amazobank.crm.accountservice.service.ColdTransactionStore;
+import com.amazobank.crm.accountservice.service.ObjectStore;
+import com.amazobank.crm.accountservice.service.PurgeEngine;
+import com.amazobank.crm.accountservice.service.PurgeJob;
+import com.amazobank.crm.accountservice.service.SqsService;
+import com.amazobank.crm.accountservice.service.TransactionArchiver;
+import com.amazobank.crm.accountservice.service.TransactionService;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:coldstorage;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "cold-storage.seal-delay=PT0S"
+})
+class ColdStorageIntegrationTest {
+
+    private static final LocalDate OLD = LocalDate.now().minusYears(2);
+
+    @DynamicPropertySource
+    static void coldStorage(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("cold-storage");
+        registry.add("cold-storage.local-directory", directory::toString);
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @MockitoSpyBean
+    private TransactionSegmentRepository segmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TransactionArchiver archiver;
+
+    @Autowired
+    private ColdTransactionStore coldStore;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @MockitoSpyBean
+    private ObjectStore objectStore;
+
+    @Autowired
+    private PurgeEngine purgeEngine;
+
+    @Autowired
+    private PurgeJob transactionSegmentsPurge;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    private Account account;
+
+    @BeforeEach
+    void seed() {
+        transactionRepository.deleteAll();
+        segmentRepository.deleteAll();
+        accountRepository.deleteAll();
+        coldStore.refresh();
+
+        account = accountRepository.save(Account.builder()
+                .accountId(UuidV7.next().toString())
+                .clientId("client-001")
+                .agentId("agent-001")
+                .accountType(AccountType.Savings)
+                .accountStatus(AccountStatus.Active)
+                .openingDate(OLD.minusMonths(1))
+                .initialDeposit(5000.00)
+                .currency("USD")
+                .branchId("branch-001")
+                .build());
+    }
+
+    @Test
+    void archive_shouldMoveOnlyOldCompletedTransactionsAndKeepThemReadable() throws Exception {
+        Transaction archived = save(OLD, TransactionStatus.Completed);
+        Transaction pending = save(OLD, TransactionStatus.Pending);
+        Transaction recent = save(LocalDate.now(), TransactionStatus.Completed);
+
+        TransactionSegment segment = archiver.archive().orElseThrow();
+        coldStore.refresh();
+
+        assertEquals(1, segment.getRowCount());
+        assertEquals(ids(archived, pending, recent), ids(transactionService.findByAccountId(account.getAccountId())));
+
+        assertEquals(1, archiver.seal());
+
+        assertEquals(ids(pending, recent), ids(transactionRepository.findAll()));
+        assertEquals(ids(archived, pending, recent), ids(transactionService.findByAccountId(account.getAccountId())));
+        assertEquals(archived.getAmount(), transactionService
+                .findByAccountIdAndTransactionId(account.getAccountId(), archived.getTransactionId()).orElseThrow().getAmount());
+    }
+
+    @Test
+    void findByAccountId_whenRangeMissesEverySegment_shouldOnlyReturnHotRows() throws Exception {
+        save(OLD, TransactionStatus.Completed);
+        Transaction recent = save(LocalDate.now(), TransactionStatus.Completed);
+        archiver.archive().orElseThrow();
+        archiver.seal();
+        coldStore.refresh();
+
+        List<Transaction> found = transactionService.findByAccountId(account.getAccountId(), LocalDate.now().minusDays(1), null);
+
+        assertEquals(ids(recent), ids(found));
+    }
+
+    @Test
+    void find_shouldOnlyFetchSegmentsWhoseIdRangeCoversTheTransaction() throws Exception {
+        Transaction first = save(OLD, TransactionStatus.Completed);
+        TransactionSegment firstSegment = archiver.archive().orElseThrow();
+        archiver.seal();
+        save(OLD.plusMonths(1), TransactionStatus.Completed);
+        TransactionSegment secondSegment = archiver.archive().orElseThrow();
+        archiver.seal();
+        coldStore.refresh();
+        clearInvocations(objectStore);
+
+        assertTrue(transactionService.findByAccountIdAndTransactionId(account.getAccountId(), UuidV7.next().toString()).isEmpty());
+        verify(objectStore, never()).get(anyString());
+
+        assertEquals(first.getAmount(), transactionService
+                .findByAccountIdAndTransactionId(account.getAccountId(), first.getTransactionId()).orElseThrow().getAmount());
+        verify(objectStore).get(firstSegment.getSegmentKey());
+        verify(objectStore, never()).get(secondSegment.getSegmentKey());
+    }
+
+    @Test
+    void findByAccountId_withoutDateRange_shouldOnlyFetchSegmentsHoldingTheAccount() throws Exception {
+        Transaction own = save(OLD, TransactionStatus.Completed);
+        TransactionSegment ownSegment = archiver.archive().orElseThrow();
+        archiver.seal();
+        Account other = accountRepository.save(Account.builder()
+                .accountId(UuidV7.next().toString())
+                .clientId("client-002")
+                .agentId("agent-001")
+                .accountType(AccountType.Savings)
+                .accountStatus(AccountStatus.Active)
+                .openingDate(OLD.minusMonths(1))
+                .initialDeposit(100.00)
+                .currency("USD")
+                .branchId("branch-001")
+                .build());
+        Transaction foreign = save(OLD.plusMonths(1), TransactionStatus.Completed);
+        foreign.setAccount(other);
+        transactionRepository.save(foreign);
+        TransactionSegment otherSegment = archiver.archive().orElseThrow();
+        archiver.seal();
+        coldStore.refresh();
+        clearInvocations(objectStore);
+
+        assertEquals(ids(own), ids(transactionService.findByAccountId(account.getAccountId())));
+        verify(objectStore).get(ownSegment.getSegmentKey());
+        verify(objectStore, never()).get(otherSegment.getSegmentKey());
+    }
+
+    @Test
+    void archive_whenSegmentStillUnsealed_shouldNotStartAnother() throws Exception {
+        save(OLD, TransactionStatus.Completed);
+        save(OLD.plusMonths(1), TransactionStatus.Completed);
+
+        assertTrue(archiver.archive().isPresent());
+        assertTrue(archiver.archive().isEmpty());
+        assertEquals(1, archiver.seal());
+        assertTrue(archiver.archive().isPresent());
+    }
+
+    @Test
+    void archive_whenAnotherTaskClaimedASegmentFirst_shouldNotWriteOne() throws Exception {
+        save(OLD, TransactionStatus.Completed);
+        save(OLD.plusMonths(1), TransactionStatus.Completed);
+        // Both tasks passed the unsealed check before either inserted its index row.
+        doReturn(false).when(segmentRepository).existsBySealedAtIsNull();
+
+        TransactionSegment claimed = archiver.archive().orElseThrow();
+
+        assertTrue(archiver.archive().isEmpty());
+        assertEquals(List.of(claimed.getSegmentKey()),
+                segmentRepository.findAll().stream().map(TransactionSegment::getSegmentKey).toList());
+        assertEquals(1, archiver.seal());
+        assertTrue(archiver.archive().isPresent());
+    }
+
+    @Test
+    void seal_whenClaimingTaskDiedBeforeWriting_shouldDropTheClaimAndLetArchivingResume() throws Exception {
+        Transaction transaction = save(OLD, TransactionStatus.Completed);
+        // A task inserted its claim and died before the object store write.
+        jdbc.update("INSERT INTO TransactionSegments (SegmentKey, MinDate, MaxDate, RowCount, CreatedAt, Unsealed) "
+                + "VALUES ('transactions/abandoned.seg', ?, ?, 1, CURRENT_TIMESTAMP(6), 1)", OLD, OLD);
+        assertTrue(archiver.archive().isEmpty());
+
+        assertEquals(0, archiver.seal());
+
+        assertTrue(segmentRepository.findById("transactions/abandoned.seg").isEmpty());
+        assertEquals(ids(transaction), ids(transactionRepository.findAll()));
+        assertTrue(archiver.archive().isPresent());
+        assertEquals(1, archiver.seal());
+        assertTrue(transactionRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void find_whenSegmentIsClaimedButNotWritten_shouldReturnHotRows() {
+        Transaction archived = save(OLD, TransactionStatus.Completed);
+        jdbc.update("INSERT INTO TransactionSegments (SegmentKey, MinDate, MaxDate, RowCount, CreatedAt, Unsealed) "
+                + "VALUES ('transactions/claimed.seg', ?, ?, 1, CURRENT_TIMESTAMP(6), 1)", OLD, OLD);
+        coldStore.refresh();
+
+        assertEquals(ids(archived), ids(transactionService.findByAccountId(account.getAccountId())));
+        assertTrue(coldStore.find(account.getAccountId(), UuidV7.next().toString(), OLD).isEmpty());
+    }
+
+    @Test
+    void purge_whenSegmentIsPastRetention_shouldDeleteItsFileAndIndexRow() throws Exception {
+        save(LocalDate.now().minusYears(8), TransactionStatus.Completed);
+        TransactionSegment segment = archiver.archive().orElseThrow();
+        archiver.seal();
+
+        assertEquals(1, purgeEngine.purge(transactionSegmentsPurge));
+
+        assertTrue(segmentRepository.findAll().isEmpty());
+        assertTrue(objectStore.get(segment.getSegmentKey()).isEmpty());
+    }
+
+    private Transaction save(LocalDate date, TransactionStatus status) {
+        return transactionRepository.save(Transaction.builder()
+                .transactionId(UuidV7.next().toString())
+                .clientId("client-001")
+                .account(account)
+                .transactionType(TransactionType.D)
+                .amount(100.0)
+                .date(date)
+                .status(status)
+                .build());
+    }
+
+    private static Set<String> ids(Transaction... transactions) {
+        return ids(List.of(transactions));
+    }
+
+    private static Set<String> ids(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getTransactionId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,109 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.domain.Transaction;
+import com.amazobank.crm.accountservice.domain.TransactionStatus;
+import com.amazobank.crm.accountservice.domain.TransactionType;
+import com.amazobank.crm.accountservice.domain.UuidV7;
+import com.amazobank.crm.accountservice.service.AccountFilter;
+import com.amazobank.crm.accountservice.service.ColumnarSegment;
+
+class ColumnarSegmentTest {
+
+    private static final LocalDate JAN = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void read_shouldRoundTripEveryColumn() throws Exception {
+        Transaction transaction = transaction(UuidV7.next().toString(), JAN.plusDays(3), TransactionType.W, 42.5);
+
+        ColumnarSegment segment = ColumnarSegment.read(ColumnarSegment.of(List.of(transaction)).toBytes());
+
+        assertEquals(1, segment.size());
+        assertEquals(JAN.plusDays(3), segment.minDate());
+        assertEquals(JAN.plusDays(3), segment.maxDate());
+        Transaction read = segment.find(transaction.getAccount().getAccountId(), transaction.getTransactionId()).orElseThrow();
+        assertEquals(transaction.getTransactionId(), read.getTransactionId());
+        assertEquals(transaction.getClientId(), read.getClientId());
+        assertEquals(TransactionType.W, read.getTransactionType());
+        assertEquals(42.5, read.getAmount());
+        assertEquals(TransactionStatus.Completed, read.getStatus());
+    }
+
+    @Test
+    void findByAccountId_shouldReturnOnlyThatAccountWithinTheRange() throws Exception {
+        List<String> accounts = List.of(UuidV7.next().toString(), UuidV7.next().toString(), UuidV7.next().toString());
+        List<Transaction> transactions = new ArrayList<>();
+        for (int day = 0; day < 10; day++) {
+            for (String account : accounts) {
+                transactions.add(transaction(account, JAN.plusDays(day), TransactionType.D, day));
+            }
+        }
+        ColumnarSegment segment = ColumnarSegment.read(ColumnarSegment.of(transactions).toBytes());
+
+        List<Transaction> found = segment.findByAccountId(accounts.get(1), JAN.plusDays(2), JAN.plusDays(4));
+
+        assertEquals(3, found.size());
+        assertTrue(found.stream().allMatch(t -> t.getAccount().getAccountId().equals(accounts.get(1))));
+        assertTrue(segment.findByAccountId(UuidV7.next().toString(), JAN, JAN.plusDays(9)).isEmpty());
+    }
+
+    @Test
+    void minAndMaxTransactionId_shouldCompareIdsAsUnsignedBytes() {
+        String account = UuidV7.next().toString();
+        List<Transaction> transactions = new ArrayList<>();
+        for (String id : List.of("7fffffff-0000-7000-8000-000000000000", "ffffffff-0000-7000-8000-000000000000",
+                "00000000-0000-7000-8000-000000000001")) {
+            Transaction transaction = transaction(account, JAN, TransactionType.D, 1.0);
+            transaction.setTransactionId(id);
+            transactions.add(transaction);
+        }
+
+        ColumnarSegment segment = ColumnarSegment.of(transactions);
+
+        assertEquals("00000000-0000-7000-8000-000000000001", segment.minTransactionId());
+        assertEquals("ffffffff-0000-7000-8000-000000000000", segment.maxTransactionId());
+        assertNull(ColumnarSegment.of(List.of()).minTransactionId());
+    }
+
+    @Test
+    void accountFilter_shouldContainEveryAccountAndRuleOutMostOthers() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            transactions.add(transaction(UuidV7.next().toString(), JAN, TransactionType.D, 1.0));
+        }
+
+        AccountFilter filter = AccountFilter.wrap(ColumnarSegment.of(transactions).accountFilter().toBytes());
+
+        assertTrue(transactions.stream().allMatch(t -> filter.mightContain(UUID.fromString(t.getAccount().getAccountId()))));
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UuidV7.next())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, falsePositives + " false positives");
+    }
+
+    private static Transaction transaction(String accountId, LocalDate date, TransactionType type, double amount) {
+        return Transaction.builder()
+                .transactionId(UuidV7.next().toString())
+                .clientId("client-001")
+                .account(Account.builder().accountId(accountId).build())
+                .transactionType(type)
+                .amount(amount)
+                .date(date)
+                .status(TransactionStatus.Completed)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.AccountType;
+import com.amazobank.crm.accountservice.domain.ArchivedAccount;
+import com.amazobank.crm.accountservice.domain.Transaction;
+import com.amazobank.crm.accountservice.domain.TransactionStatus;
+import com.amazobank.crm.accountservice.domain.TransactionType;
+import com.amazobank.crm.accountservice.domain.UuidV7;
+import com.amazobank.crm.accountservice.repository.AccountRepository;
+import com.amazobank.crm.accountservice.repository.ArchivedAccountRepository;
+import com.amazobank.crm.accountservice.repository.TransactionRepository;
+import com.amazobank.crm.accountservice.security.PreloadedJwkSource;
+import com.amazobank.crm.accountservice.service.AccountService;
+import com.amazobank.crm.accountservice.service.DeletedAccountArchiver;
+import com.amazobank.crm.accountservice.service.PurgeEngine;
+import com.amazobank.crm.accountservice.service.PurgeJob;
+import com.amazobank.crm.accountservice.service.SqsService;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archive;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "soft-delete-archive.grace=P30D",
+    "soft-delete-archive.chunk-size=2"
+})
+class DeletedAccountArchiverTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private DeletedAccountArchiver archiver;
+
+    @Autowired
+    private PurgeEngine purgeEngine;
+
+    @Autowired
+    private PurgeJob archivedAccountsPurge;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    @BeforeEach
+    void clean() {
+        transactionRepository.deleteAll();
+        jdbc.update("DELETE FROM TransactionsArchive");
+        accountRepository.deleteAll();
+        archivedAccountRepository.deleteAll();
+    }
+
+    @Test
+    void archive_shouldMoveOnlyAccountsDeletedBeforeTheGracePeriod() {
+        Instant longAgo = Instant.now().minus(Duration.ofDays(60));
+        Account old1 = save(AccountStatus.Deleted, longAgo);
+        Account old2 = save(AccountStatus.Deleted, longAgo);
+        Account old3 = save(AccountStatus.Deleted, longAgo);
+        Account recent = save(AccountStatus.Deleted, Instant.now());
+        Account active = save(AccountStatus.Active, null);
+
+        assertEquals(3, archiver.archive());
+
+        assertEquals(2, accountRepository.count());
+        assertTrue(accountRepository.existsById(recent.getAccountId()));
+        assertTrue(accountRepository.existsById(active.getAccountId()));
+        ArchivedAccount archived = archivedAccountRepository.findById(old1.getAccountId()).orElseThrow();
+        assertEquals(AccountStatus.Deleted, archived.getAccountStatus());
+        assertNotNull(archived.getArchivedAt());
+        assertTrue(archivedAccountRepository.existsById(old2.getAccountId()));
+        assertTrue(archivedAccountRepository.existsById(old3.getAccountId()));
+        assertTrue(accountService.findById(old1.getAccountId()).isEmpty());
+    }
+
+    @Test
+    void archive_shouldMoveTheArchivedAccountsTransactionsOutOfTransactions() {
+        Account old = save(AccountStatus.Deleted, Instant.now().minus(Duration.ofDays(60)));
+        Account active = save(AccountStatus.Active, null);
+        Transaction archived1 = saveTransaction(old);
+        Transaction archived2 = saveTransaction(old);
+        Transaction kept = saveTransaction(active);
+
+        assertEquals(1, archiver.archive());
+
+        byte[] oldId = UuidV7.toBytes(UUID.fromString(old.getAccountId()));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM Transactions WHERE AccountID = ?", Integer.class, oldId));
+        assertEquals(List.of(kept.getTransactionId()), transactionRepository.findAll().stream().map(Transaction::getTransactionId).toList());
+        assertEquals(Set.of(archived1.getTransactionId(), archived2.getTransactionId()),
+                jdbc.queryForList("SELECT TransactionID FROM TransactionsArchive WHERE AccountID = ?", byte[].class, oldId).stream()
+                        .map(id -> UuidV7.fromBytes(id).toString())
+                        .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void save_whenStatusLeavesDeleted_shouldClearDeletedAt() {
+        Account account = save(AccountStatus.Active, null);
+        accountService.softDelete(account);
+        assertNotNull(accountRepository.findById(account.getAccountId()).orElseThrow().getDeletedAt());
+
+        Account restored = accountRepository.findById(account.getAccountId()).orElseThrow();
+        restored.setAccountStatus(AccountStatus.Active);
+        accountService.save(restored);
+
+        assertNull(accountRepository.findById(account.getAccountId()).orElseThrow().getDeletedAt());
+    }
+
+    @Test
+    void purge_whenArchivedPastRetention_shouldDeleteTheArchivedAccount() throws Exception {
+        Account old = save(AccountStatus.Deleted, Instant.now().minus(Duration.ofDays(60)));
+        Account kept = save(AccountStatus.Deleted, Instant.now().minus(Duration.ofDays(60)));
+        archiver.archive();
+        jdbc.update("UPDATE AccountsArchive SET archivedAt = ? WHERE accountId = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(8 * 365))), UuidV7.toBytes(UUID.fromString(old.getAccountId())));
+
+        assertEquals(1, purgeEngine.purge(archivedAccountsPurge));
+
+        assertTrue(archivedAccountRepository.findById(old.getAccountId()).isEmpty());
+        assertTrue(archivedAccountRepository.existsById(kept.getAccountId()));
+    }
+
+    private Transaction saveTransaction(Account account) {
+        return transactionRepository.save(Transaction.builder()
+                .transactionId(UuidV7.next().toString())
+                .clientId(account.getClientId())
+                .account(account)
+                .transactionType(TransactionType.D)
+                .amount(100.0)
+                .date(LocalDate.of(2024, 2, 1))
+                .status(TransactionStatus.Completed)
+                .build());
+    }
+
+    private Account save(AccountStatus status, Instant deletedAt) {
+        return accountRepository.save(Account.builder()
+                .accountId(UuidV7.next().toString())
+                .clientId("client-001")
+                .agentId("agent-001")
+                .accountType(AccountType.Savings)
+                .accountStatus(status)
+                .openingDate(LocalDate.of(2024, 1, 15))
+                .initialDeposit(5000.00)
+                .currency("USD")
+                .branchId("branch-001")
+                .deletedAt(deletedAt)
+                .build());
+    }
+}
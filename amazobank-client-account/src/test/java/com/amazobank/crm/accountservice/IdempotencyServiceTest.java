@@ -0,0 +1,108 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.accountservice.config.IdempotencyProperties;
+import com.amazobank.crm.accountservice.domain.IdempotencyStatus;
+import com.amazobank.crm.accountservice.repository.IdempotencyRecordRepository;
+import com.amazobank.crm.accountservice.service.IdempotencyService;
+import com.amazobank.crm.accountservice.service.IdempotencyService.Outcome;
+import com.amazobank.crm.accountservice.service.IdempotencyService.StoredResponse;
+
+class IdempotencyServiceTest {
+
+    private IdempotencyRecordRepository repo;
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(IdempotencyRecordRepository.class);
+        when(repo.findById(anyString())).thenReturn(Optional.empty());
+        service = new IdempotencyService(repo, new IdempotencyProperties());
+    }
+
+    @Test
+    void execute_whenDuplicateArrivesWhileFirstInFlight_shouldRunOnceAndReplay() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        StoredResponse created = new StoredResponse(201, "application/json", "{\"accountId\":\"acc-1\"}".getBytes());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Outcome> first = executor.submit(() -> service.execute("key", "body", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return created;
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<Outcome> second = executor.submit(() -> service.execute("key", "body", () -> {
+                executions.incrementAndGet();
+                return created;
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(Outcome.Kind.Executed, first.get(5, TimeUnit.SECONDS).kind());
+            Outcome replayed = second.get(5, TimeUnit.SECONDS);
+            assertEquals(Outcome.Kind.Replayed, replayed.kind());
+            assertEquals(201, replayed.response().status());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_whenKeyReusedWithDifferentBody_shouldNotRunAgain() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> service.execute("key", "body-1", () -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return new StoredResponse(201, null, new byte[0]);
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            Outcome outcome = service.execute("key", "body-2", () -> {
+                throw new AssertionError("should not run");
+            });
+            assertEquals(Outcome.Kind.KeyReused, outcome.kind());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_whenServerError_shouldReleaseKeyInsteadOfStoringResponse() throws Exception {
+        Outcome outcome = service.execute("key", "body", () -> new StoredResponse(503, null, new byte[0]));
+
+        assertEquals(Outcome.Kind.Executed, outcome.kind());
+        verify(repo).deleteById("key");
+        verify(repo, never()).complete(eq("key"), any(IdempotencyStatus.class), anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,55 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.accountservice.config.InvalidationProperties;
+import com.amazobank.crm.accountservice.service.EntityChanged;
+import com.amazobank.crm.accountservice.service.InvalidationBus;
+import com.amazobank.crm.accountservice.service.LoopbackInvalidationTransport;
+
+class InvalidationBusTest {
+
+    private final LoopbackInvalidationTransport transport = new LoopbackInvalidationTransport();
+
+    @Test
+    void flush_whenEntityWrittenSeveralTimes_shouldSendOneEventWithLatestVersion() {
+        InvalidationBus writer = bus();
+        InvalidationBus reader = bus();
+        List<EntityChanged> received = new CopyOnWriteArrayList<>();
+        reader.subscribe("account", received::add);
+
+        writer.publish("account", "acc-1", 1L);
+        writer.publish("account", "acc-1", 3L);
+        writer.publish("account", "acc-1", 2L);
+        writer.publish("account", "acc-2", 1L);
+        writer.flush();
+
+        assertEquals(2, received.size());
+        assertEquals(new EntityChanged("account", "acc-1", 3L), received.stream()
+                .filter(event -> event.id().equals("acc-1")).findFirst().orElseThrow());
+    }
+
+    @Test
+    void flush_whenNoListenerForType_shouldIgnoreEvent() {
+        InvalidationBus writer = bus();
+        List<EntityChanged> received = new CopyOnWriteArrayList<>();
+        bus().subscribe("account", received::add);
+
+        writer.publish("client", "c-1", 1L);
+        writer.flush();
+
+        assertEquals(List.of(), received);
+    }
+
+    private InvalidationBus bus() {
+        InvalidationProperties properties = new InvalidationProperties();
+        properties.setFlushInterval(Duration.ofHours(1));
+        return new InvalidationBus(transport, properties);
+    }
+}
@@ -0,0 +1,70 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+
+import com.amazobank.crm.accountservice.api.JfrEndpoint;
+import com.amazobank.crm.accountservice.config.JfrProperties;
+import com.amazobank.crm.accountservice.service.RepositoryCallEvent;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrEndpointTest {
+
+    private JfrProperties properties;
+    private JfrEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JfrProperties();
+        properties.setSettings("default");
+        properties.setMaxDuration(Duration.ofMinutes(1));
+        endpoint = new JfrEndpoint(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        endpoint.discard();
+    }
+
+    @Test
+    void start_whenAlreadyRunning_shouldConflictAndCapDuration() throws Exception {
+        WebEndpointResponse<?> first = endpoint.start(Duration.ofHours(1));
+        WebEndpointResponse<?> second = endpoint.start(null);
+
+        assertEquals(WebEndpointResponse.STATUS_OK, first.getStatus());
+        assertEquals(HttpStatus.CONFLICT.value(), second.getStatus());
+        assertEquals("RUNNING", endpoint.status().get("state"));
+        assertEquals(Duration.ofMinutes(1), endpoint.status().get("duration"));
+    }
+
+    @Test
+    void stop_shouldReturnRecordingWithCustomEvents() throws Exception {
+        endpoint.start(null);
+
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        event.repository = "AccountRepository";
+        event.method = "findAllById";
+        event.commit();
+
+        WebEndpointResponse<Resource> response = endpoint.stop();
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(response.getBody().getFile().toPath());
+        assertTrue(events.stream().anyMatch(recorded -> recorded.getEventType().getName().equals("amazobank.RepositoryCall")
+                && "findAllById".equals(recorded.getString("method"))));
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.stop().getStatus());
+    }
+}
@@ -0,0 +1,105 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.amazobank.crm.accountservice.api.JsonCache;
+import com.amazobank.crm.accountservice.api.JsonCache.SerializedJson;
+import com.amazobank.crm.accountservice.api.JsonCacheSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class JsonCacheSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void run_whenSnapshotSaved_shouldRestoreEntriesWithTheirVersion() {
+        Path file = dir.resolve("json-cache.bin");
+        JsonCache before = new JsonCache(objectMapper, 1 << 20, 1024);
+        before.ok(request, "accounts/acc-1", 3L, () -> Map.of("accountId", "acc-1"));
+        before.ok(request, "transactions/acc-1", "digest", () -> Map.of("count", 2));
+        new JsonCacheSnapshot(before, file.toString(), 100).save();
+
+        JsonCache after = new JsonCache(objectMapper, 1 << 20, 1024);
+        new JsonCacheSnapshot(after, file.toString(), 100).run(null);
+
+        assertEquals("{\"accountId\":\"acc-1\"}", body(after.ok(request, "accounts/acc-1", 3L, () -> {
+            throw new AssertionError("should be served from the snapshot");
+        })));
+        assertEquals("{\"count\":2}", body(after.ok(request, "transactions/acc-1", "digest", () -> {
+            throw new AssertionError("should be served from the snapshot");
+        })));
+        assertEquals("{\"accountId\":\"acc-1b\"}", body(after.ok(request, "accounts/acc-1", 4L,
+                () -> Map.of("accountId", "acc-1b"))));
+    }
+
+    @Test
+    void run_whenSnapshotCorrupt_shouldStartCold() throws Exception {
+        Path file = dir.resolve("json-cache.bin");
+        Files.write(file, new byte[] { 1, 2, 3 });
+
+        JsonCache cache = new JsonCache(objectMapper, 1 << 20, 1024);
+        new JsonCacheSnapshot(cache, file.toString(), 100).run(null);
+
+        assertEquals("{\"accountId\":\"acc-1\"}", body(cache.ok(request, "accounts/acc-1", 3L,
+                () -> Map.of("accountId", "acc-1"))));
+    }
+
+    @Test
+    void save_whenTasksSaveConcurrently_shouldLeaveOneCompleteSnapshot() throws Exception {
+        Path file = dir.resolve("json-cache.bin");
+        List<Thread> tasks = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            JsonCache cache = new JsonCache(objectMapper, 1 << 20, 1024);
+            for (int i = 0; i < 50; i++) {
+                String id = "acc-" + i;
+                cache.ok(request, "accounts/" + id, 1L, () -> Map.of("accountId", id, "padding", "x".repeat(2000)));
+            }
+            JsonCacheSnapshot snapshot = new JsonCacheSnapshot(cache, file.toString(), 100);
+            tasks.add(new Thread(() -> {
+                for (int n = 0; n < 20; n++) {
+                    snapshot.save();
+                }
+            }));
+        }
+        tasks.forEach(Thread::start);
+        for (Thread task : tasks) {
+            task.join();
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+        JsonCache restored = new JsonCache(objectMapper, 1 << 20, 1024);
+        new JsonCacheSnapshot(restored, file.toString(), 100).run(null);
+        assertTrue(body(restored.ok(request, "accounts/acc-7", 1L, () -> {
+            throw new AssertionError("should be served from the snapshot");
+        })).contains("\"accountId\":\"acc-7\""));
+    }
+
+    private static String body(ResponseEntity<?> response) {
+        ByteBuffer buffer = assertInstanceOf(SerializedJson.class, response.getBody()).buffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,127 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.AccountType;
+import com.amazobank.crm.accountservice.domain.Transaction;
+import com.amazobank.crm.accountservice.domain.TransactionStatus;
+import com.amazobank.crm.accountservice.repository.AccountRepository;
+import com.amazobank.crm.accountservice.repository.TransactionRepository;
+import com.amazobank.crm.accountservice.security.PreloadedJwkSource;
+import com.amazobank.crm.accountservice.service.SqsService;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+/**
+ * Starts against tables as Hibernate created them from the entities before migrations, as the production
+ * database will be on its first deploy: Flyway baselines it, runs every migration, and the schema must then
+ * pass validation with the existing rows intact.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + LegacySchemaMigrationTest.URL,
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class LegacySchemaMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:legacy;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final String ACCOUNT_ID = "0b7e4f3a-9c1d-4e2b-8a6f-5d3c2b1a0f9e";
+    private static final String TRANSACTION_ID = "1c8f5a4b-0d2e-4f3c-9b7a-6e4d3c2b1a0f";
+
+    static {
+        // The DDL Hibernate generated for the original Account and Transaction entities.
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    create table Accounts (initialDeposit float(53) not null, openingDate date not null,
+                        accountStatus enum ('Active','Inactive','Pending','Deleted') not null,
+                        accountType enum ('Savings','Checking','Business') not null,
+                        currency varchar(10) not null, branchId varchar(20), accountId varchar(36) not null,
+                        agentId varchar(36) not null, clientId varchar(36) not null, primary key (accountId))
+                    """);
+            statement.execute("""
+                    create table Transactions (Amount float(53) not null, Date date not null,
+                        AccountID varchar(36) not null, ClientID varchar(36) not null, TransactionID varchar(36) not null,
+                        Status enum ('Completed','Pending','Failed') not null, TransactionType enum ('D','W') not null,
+                        primary key (TransactionID))
+                    """);
+            statement.execute("alter table Transactions add constraint FKbmpkfqcgwqwbxvtbh6yd2ka2e"
+                    + " foreign key (AccountID) references Accounts (accountId)");
+            statement.execute("insert into Accounts values (100.0, DATE '2024-03-01', 'Deleted', 'Checking', 'SGD', null, '"
+                    + ACCOUNT_ID + "', 'a1b2c3d4-5678-90ab-cdef-111111111111', 'c1b2c3d4-5678-90ab-cdef-111111111111')");
+            statement.execute("insert into Transactions values (25.0, DATE '2024-03-02', '" + ACCOUNT_ID
+                    + "', 'c1b2c3d4-5678-90ab-cdef-111111111111', '" + TRANSACTION_ID + "', 'Completed', 'D')");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private Flyway flyway;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    @Test
+    void migrate_shouldKeepExistingRowsReadable() {
+        Account account = accountRepository.findById(ACCOUNT_ID).orElseThrow();
+        assertEquals(AccountType.Checking, account.getAccountType());
+        assertEquals(AccountStatus.Deleted, account.getAccountStatus());
+        assertEquals(0L, account.getVersion());
+
+        Transaction transaction = transactionRepository.findAll().get(0);
+        assertEquals(TRANSACTION_ID, transaction.getTransactionId());
+        assertEquals(TransactionStatus.Completed, transaction.getStatus());
+        assertEquals(LocalDate.of(2024, 3, 2), transaction.getDate());
+    }
+
+    @Test
+    void migrate_shouldApplyEveryMigrationOverTheBaseline() {
+        MigrationInfo[] applied = flyway.info().applied();
+        assertEquals(MigrationState.BASELINE, applied[0].getState());
+        assertEquals("0", applied[0].getVersion().getVersion());
+        assertEquals("1.1", applied[2].getVersion().getVersion());
+        assertTrue(Arrays.stream(applied).allMatch(migration -> migration.getState().isApplied()));
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void save_shouldIncrementVersionOnMigratedRow() {
+        Account account = accountRepository.findById(ACCOUNT_ID).orElseThrow();
+        account.setBranchId("BR-1");
+        assertEquals(1L, accountRepository.save(account).getVersion());
+    }
+}
@@ -0,0 +1,145 @@
+package com.amazobank.crm.accountservice;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.amazobank.crm.accountservice.api.AccountController;
+import com.amazobank.crm.accountservice.api.JsonCache;
+import com.amazobank.crm.accountservice.config.LogSamplingFilter;
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.AccountType;
+import com.amazobank.crm.accountservice.security.SecurityConfig;
+import com.amazobank.crm.accountservice.service.AccountService;
+import com.amazobank.crm.accountservice.service.AuditLog;
+import com.amazobank.crm.accountservice.service.ClientDirectory;
+import com.amazobank.crm.accountservice.service.SqsService;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+
+/**
+ * Measures what request logging costs per call to GET /api/accounts, with the handler loggers off, at INFO
+ * with every line kept, and at INFO sampled one in a hundred.
+ *
+ * Not part of the regular test run; use {@code gradle benchmark}. Results are written to
+ * build/reports/logging-benchmark.txt.
+ */
+@Tag("benchmark")
+@WebMvcTest(AccountController.class)
+@AutoConfigureMockMvc
+@Import({SecurityConfig.class, JsonCache.class})
+class LoggingOverheadBenchmark {
+
+    private static final String AGENT_ID = "a1b2c3d4-5678-90ab-cdef-111111111111";
+    private static final String API_LOGGER = "com.amazobank.crm.accountservice.api";
+    private static final int WARMUP = 20_000;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 5_000;
+
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AccountService service;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private ClientDirectory clientDirectory;
+
+    @MockitoBean
+    private AuditLog auditLog;
+
+    @AfterEach
+    void restoreLogging() {
+        loggerContext.getLogger(API_LOGGER).setLevel(null);
+        samplingFilter().setInfoSampleRate(1);
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getAll_loggingOnVersusOff() throws Exception {
+        when(service.findByAgentId(anyString())).thenReturn(List.of(Account.builder()
+                .accountId("acc-001")
+                .clientId("client-001")
+                .agentId(AGENT_ID)
+                .accountType(AccountType.Savings)
+                .accountStatus(AccountStatus.Active)
+                .openingDate(LocalDate.of(2024, 1, 15))
+                .initialDeposit(5000.00)
+                .currency("USD")
+                .branchId("branch-001")
+                .build()));
+
+        loggerContext.getLogger(API_LOGGER).setLevel(Level.OFF);
+        run(WARMUP);
+
+        // Interleave the modes and keep each one's best round, so JIT and GC drift do not favour any of them.
+        String[] labels = { "logging off", "INFO, every line", "INFO, sampled 1/100" };
+        Level[] levels = { Level.OFF, Level.INFO, Level.INFO };
+        int[] sampleRates = { 1, 1, 100 };
+        double[] best = { Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE };
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int mode = 0; mode < labels.length; mode++) {
+                best[mode] = Math.min(best[mode], measure(levels[mode], sampleRates[mode]));
+            }
+        }
+
+        List<String> results = new ArrayList<>();
+        for (int mode = 0; mode < labels.length; mode++) {
+            results.add(String.format("%-22s %8.2f us/request", labels[mode], best[mode]));
+        }
+        String report = String.join(System.lineSeparator(), results) + System.lineSeparator();
+        Path file = Path.of("build", "reports", "logging-benchmark.txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, report);
+        System.out.print(report);
+    }
+
+    private double measure(Level level, int sampleRate) throws Exception {
+        loggerContext.getLogger(API_LOGGER).setLevel(level);
+        samplingFilter().setInfoSampleRate(sampleRate);
+
+        long start = System.nanoTime();
+        run(ITERATIONS);
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private void run(int requests) throws Exception {
+        for (int i = 0; i < requests; i++) {
+            mockMvc.perform(get("/api/accounts")).andExpect(status().isOk());
+        }
+    }
+
+    private LogSamplingFilter samplingFilter() {
+        return loggerContext.getTurboFilterList().stream()
+                .filter(LogSamplingFilter.class::isInstance)
+                .map(LogSamplingFilter.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,172 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.amazobank.crm.accountservice.security.PreloadedJwkSource;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PreloadedJwkSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer jwksEndpoint;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile String cacheControl = "max-age=3600";
+    private volatile JWKSet served;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Set<String>> keyChanges = new CopyOnWriteArrayList<>();
+    private PreloadedJwkSource source;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        served = keys("k1");
+        jwksEndpoint = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksEndpoint.createContext("/jwks.json", exchange -> {
+            requests.incrementAndGet();
+            byte[] body = served.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        jwksEndpoint.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (source != null) {
+            source.close();
+        }
+        jwksEndpoint.stop(0);
+    }
+
+    @Test
+    void start_withoutBootstrapFile_shouldLoadKeysBeforeReturning() throws Exception {
+        source = source(null, Duration.ofMinutes(1));
+        source.start();
+
+        assertEquals(1, source.get(select("k1"), null).size());
+        assertEquals(1, requests.get());
+        assertEquals(1.0, meterRegistry.get("security.jwks.keys").gauge().value());
+        assertEquals(1, meterRegistry.get("security.jwks.refresh").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void start_withBootstrapFile_shouldServeKeysWhileEndpointDown() throws Exception {
+        Path bootstrap = tempDir.resolve("jwks.json");
+        Files.writeString(bootstrap, keys("k0").toString());
+        status = 500;
+
+        source = source(bootstrap, Duration.ofMinutes(1));
+        source.start();
+
+        assertEquals(1, source.get(select("k0"), null).size());
+        await(() -> meterRegistry.get("security.jwks.refresh").tag("outcome", "failure").timer().count() == 1);
+        assertEquals(1, source.get(select("k0"), null).size());
+    }
+
+    @Test
+    void refresh_whenSuccessful_shouldRewriteBootstrapFile() throws Exception {
+        Path bootstrap = tempDir.resolve("jwks.json");
+        source = source(bootstrap, Duration.ofMinutes(1));
+        source.start();
+
+        assertEquals("k1", JWKSet.load(bootstrap.toFile()).getKeys().get(0).getKeyID());
+    }
+
+    @Test
+    void refresh_shouldRunBeforeMaxAgeExpires() throws Exception {
+        cacheControl = "max-age=1";
+        source = source(null, Duration.ofMillis(100));
+        source.start();
+
+        served = keys("k2");
+        await(() -> requests.get() >= 2);
+
+        await(() -> !keyChanges.isEmpty());
+        assertEquals(Set.of("k2"), keyChanges.get(0));
+        assertEquals(1, source.get(select("k2"), null).size());
+    }
+
+    @Test
+    void get_whenKeyIdUnknown_shouldRefreshAtMostOncePerMinInterval() throws Exception {
+        source = source(null, Duration.ofMillis(300));
+        source.start();
+        served = keys("k1", "k2");
+        Thread.sleep(400);
+
+        assertEquals(1, source.get(select("k2"), null).size());
+        assertEquals(0, source.get(select("unknown"), null).size());
+        assertEquals(0, source.get(select("unknown"), null).size());
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void start_whenEndpointFails_shouldRecordFailureAndServeNoKeys() throws Exception {
+        status = 503;
+        source = source(null, Duration.ofMinutes(1));
+        source.start();
+
+        assertTrue(source.get(select("k1"), null).isEmpty());
+        assertEquals(1, meterRegistry.get("security.jwks.refresh").tag("outcome", "failure").timer().count());
+        assertEquals(0.0, meterRegistry.get("security.jwks.keys").gauge().value());
+    }
+
+    private PreloadedJwkSource source(Path bootstrap, Duration minRefreshInterval) {
+        URI uri = URI.create("http://localhost:" + jwksEndpoint.getAddress().getPort() + "/jwks.json");
+        return new PreloadedJwkSource(uri, bootstrap, Duration.ofHours(1), minRefreshInterval, Duration.ofSeconds(2),
+                keyChanges::add, meterRegistry);
+    }
+
+    private static JWKSelector select(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+
+    private static JWKSet keys(String... keyIds) throws Exception {
+        List<JWK> keys = new ArrayList<>();
+        for (String keyId : keyIds) {
+            keys.add(new RSAKeyGenerator(2048).keyID(keyId).generate().toPublicJWK());
+        }
+        return new JWKSet(keys);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
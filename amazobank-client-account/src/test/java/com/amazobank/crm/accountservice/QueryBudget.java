@@ -0,0 +1,37 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.Callable;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Fails a test when an action makes Hibernate prepare more JDBC statements than its budget allows.
+ *
+ * Counts come from Hibernate statistics rather than the request thread, so statements run on batch-loader
+ * threads are included. Lazy loads and N+1 collection fetches show up as extra statements; the failure message
+ * also gives entity and collection load counts to point at them.
+ */
+public class QueryBudget {
+
+    private final Statistics statistics;
+
+    public QueryBudget(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public <T> T atMost(int maxStatements, Callable<T> action) throws Exception {
+        statistics.clear();
+        T result = action.call();
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= maxStatements, () -> String.format(
+                "Expected at most %d statements but %d were prepared (%d entity loads, %d collection fetches)",
+                maxStatements, statements, statistics.getEntityLoadCount(), statistics.getCollectionFetchCount()));
+        return result;
+    }
+}
@@ -0,0 +1,190 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.domain.AccountStatus;
+import com.amazobank.crm.accountservice.domain.AccountType;
+import com.amazobank.crm.accountservice.domain.Transaction;
+import com.amazobank.crm.accountservice.domain.TransactionStatus;
+import com.amazobank.crm.accountservice.domain.TransactionType;
+import com.amazobank.crm.accountservice.repository.AccountRepository;
+import com.amazobank.crm.accountservice.repository.TransactionRepository;
+import com.amazobank.crm.accountservice.security.PreloadedJwkSource;
+import com.amazobank.crm.accountservice.service.SqsService;
+
+import jakarta.persistence.EntityManagerFactory;
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+/**
+ * Query budgets for every controller endpoint, run against an in-memory database.
+ *
+ * Each agent owns several accounts with several transactions, so a lazy load per row shows up as a blown budget.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:accounts;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    // The schema comes from the Flyway migrations and is validated; H2 only matches DATETIME columns as plain timestamps.
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+class QueryBudgetIntegrationTest {
+
+    private static final String AGENT_ID = "a1b2c3d4-5678-90ab-cdef-111111111111";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    private QueryBudget budget;
+    private List<Account> accounts;
+    private Transaction transaction;
+
+    @BeforeEach
+    void seed() {
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+
+        accounts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Account account = accountRepository.save(Account.builder()
+                    .accountId(UUID.randomUUID().toString())
+                    .clientId("client-001")
+                    .agentId(AGENT_ID)
+                    .accountType(AccountType.Savings)
+                    .accountStatus(AccountStatus.Active)
+                    .openingDate(LocalDate.of(2024, 1, 15))
+                    .initialDeposit(5000.00)
+                    .currency("USD")
+                    .branchId("branch-001")
+                    .build());
+            accounts.add(account);
+            for (int j = 0; j < 3; j++) {
+                transaction = transactionRepository.save(Transaction.builder()
+                        .transactionId(UUID.randomUUID().toString())
+                        .clientId("client-001")
+                        .account(account)
+                        .transactionType(TransactionType.D)
+                        .amount(100.0)
+                        .date(LocalDate.of(2024, 2, 1))
+                        .status(TransactionStatus.Completed)
+                        .build());
+            }
+        }
+        budget = new QueryBudget(entityManagerFactory);
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getAll() throws Exception {
+        budget.atMost(1, () -> mockMvc.perform(get("/api/accounts")).andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getAllForClient() throws Exception {
+        Account other = accounts.get(2);
+        other.setClientId("client-002");
+        accountRepository.save(other);
+
+        // The client overview relies on this filter: other clients' accounts must not come back.
+        budget.atMost(1, () -> mockMvc.perform(get("/api/accounts").param("clientId", "client-002")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].accountId").value(other.getAccountId())));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getOne() throws Exception {
+        budget.atMost(1, () -> mockMvc.perform(get("/api/accounts/{id}", accounts.get(0).getAccountId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void create() throws Exception {
+        String body = """
+                {"clientId": "client-001", "accountType": "Savings", "initialDeposit": 100.0,
+                 "currency": "USD", "branchId": "branch-001", "clientEmail": "client@example.com"}
+                """;
+        budget.atMost(1, () -> mockMvc.perform(post("/api/accounts").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void update() throws Exception {
+        budget.atMost(3, () -> mockMvc.perform(put("/api/accounts/{id}", accounts.get(0).getAccountId())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"branchId\": \"branch-002\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void softDelete() throws Exception {
+        long transactions = transactionRepository.count();
+        budget.atMost(3, () -> mockMvc.perform(delete("/api/accounts/{id}", accounts.get(0).getAccountId()))
+                .andExpect(status().isNoContent()));
+
+        // findById hands out a copy without the lazy transactions; saving it must leave them in place.
+        assertEquals(transactions, transactionRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getTransactions() throws Exception {
+        budget.atMost(2, () -> mockMvc.perform(get("/api/accounts/{id}/transactions", accounts.get(2).getAccountId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getTransaction() throws Exception {
+        budget.atMost(2, () -> mockMvc.perform(get("/api/accounts/{id}/transactions/{tid}",
+                        accounts.get(2).getAccountId(), transaction.getTransactionId()))
+                .andExpect(status().isOk()));
+    }
+}
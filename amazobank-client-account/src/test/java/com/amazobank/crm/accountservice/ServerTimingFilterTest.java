@@ -0,0 +1,49 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.amazobank.crm.accountservice.api.ServerTimingFilter;
+import com.amazobank.crm.accountservice.service.RequestTimings;
+import com.amazobank.crm.accountservice.service.RequestTimings.Phase;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    @Test
+    void doFilter_shouldAddHeaderBeforeBodyIsWritten() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String[] headerAtFirstWrite = new String[1];
+
+        new ServerTimingFilter(true).doFilter(new MockHttpServletRequest("GET", "/api/accounts"), response, (req, res) -> {
+            RequestTimings.record(Phase.Db, System.nanoTime());
+            RequestTimings.record(Phase.Db, System.nanoTime());
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            headerAtFirstWrite[0] = response.getHeader(ServerTimingFilter.HEADER);
+            res.flushBuffer();
+        });
+
+        assertTrue(headerAtFirstWrite[0].startsWith("db;desc=\"JDBC statements (2)\";dur="), headerAtFirstWrite[0]);
+        assertTrue(headerAtFirstWrite[0].contains("total;dur="), headerAtFirstWrite[0]);
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_whenNoBodyAndHeaderNotExposed_shouldOnlyLog() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter(false).doFilter(new MockHttpServletRequest("DELETE", "/api/accounts/acc-1"), response,
+                (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+        assertEquals(204, response.getStatus());
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+    }
+}
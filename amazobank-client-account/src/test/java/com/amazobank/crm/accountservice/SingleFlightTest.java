@@ -0,0 +1,87 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.accountservice.domain.Account;
+import com.amazobank.crm.accountservice.service.SingleFlight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, Account> flight =
+            new SingleFlight<>("accounts", meterRegistry, a -> a.toBuilder().build());
+
+    @Test
+    void execute_whenCalledConcurrently_shouldLoadOnceAndHandOutCopies() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Account> first = executor.submit(() -> flight.execute("acc-1", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return Account.builder().accountId("acc-1").build();
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<Account> second = executor.submit(() -> flight.execute("acc-1", () -> {
+                loads.incrementAndGet();
+                return Account.builder().accountId("acc-1").build();
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            Account leader = first.get(5, TimeUnit.SECONDS);
+            Account follower = second.get(5, TimeUnit.SECONDS);
+            assertEquals(1, loads.get());
+            assertEquals(leader, follower);
+            assertNotSame(leader, follower);
+            assertEquals(1.0, meterRegistry.get("repository.reads.coalesced").counter().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_whenPreviousReadFinished_shouldLoadAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("acc-1", () -> Account.builder().accountId("acc-" + loads.incrementAndGet()).build());
+        Account second = flight.execute("acc-1", () -> Account.builder().accountId("acc-" + loads.incrementAndGet()).build());
+
+        assertEquals(2, loads.get());
+        assertEquals("acc-2", second.getAccountId());
+    }
+
+    @Test
+    void execute_shouldHandTheFirstCallerACopyToo() {
+        Account loaded = Account.builder().accountId("acc-1").build();
+
+        Account result = flight.execute("acc-1", () -> loaded);
+
+        assertEquals(loaded, result);
+        assertNotSame(loaded, result);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
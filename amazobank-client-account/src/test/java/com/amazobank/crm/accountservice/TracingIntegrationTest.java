@@ -0,0 +1,114 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.amazobank.crm.accountservice.security.PreloadedJwkSource;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+/**
+ * Checks that one account creation is recorded as a single trace and that the trace continues into SQS.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:tracing;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    // The schema comes from the Flyway migrations and is validated; H2 only matches DATETIME columns as plain timestamps.
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "rate-limit.enabled=false",
+    "aws.sqs.queueUrl=https://sqs.ap-southeast-1.amazonaws.com/000000000000/EmailNotificationQueue.fifo",
+    "management.tracing.sampling.probability=1.0"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+class TracingIntegrationTest {
+
+    private static final String AGENT_ID = "a1b2c3d4-5678-90ab-cdef-111111111111";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @BeforeEach
+    void reset() {
+        spanExporter.reset();
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void create_shouldTraceControllerRepositoryAndSqsInOneTrace() throws Exception {
+        String body = """
+                {"clientId": "client-001", "accountType": "Savings", "initialDeposit": 100.0,
+                 "currency": "USD", "branchId": "branch-001", "clientEmail": "client@example.com"}
+                """;
+        mockMvc.perform(post("/api/accounts").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        String traceId = span(spans, "http post /api/accounts").getTraceId();
+        assertEquals(traceId, span(spans, "account-controller.create").getTraceId());
+        assertEquals(traceId, span(spans, "account-repository.save").getTraceId());
+        assertEquals(traceId, span(spans, "EmailNotificationQueue.fifo send").getTraceId());
+
+        ArgumentCaptor<SendMessageRequest> sent = ArgumentCaptor.forClass(SendMessageRequest.class);
+        verify(sqsClient).sendMessage(sent.capture());
+        String traceparent = sent.getValue().messageAttributes().get("traceparent").stringValue();
+        assertTrue(traceparent.contains(traceId), traceparent);
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " not in " + spans.stream().map(SpanData::getName).toList()));
+    }
+}
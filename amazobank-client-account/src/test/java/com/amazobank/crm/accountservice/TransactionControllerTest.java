@@ -1,5 +1,6 @@
 package com.amazobank.crm.accountservice;
 
+import com.amazobank.crm.accountservice.api.JsonCache;
 import com.amazobank.crm.accountservice.api.TransactionController;
 import com.amazobank.crm.accountservice.domain.Account;
 import com.amazobank.crm.accountservice.domain.AccountStatus;
@@ -9,6 +10,7 @@ import com.amazobank.crm.accountservice.domain.TransactionStatus;
 import com.amazobank.crm.accountservice.domain.TransactionType;
 import com.amazobank.crm.accountservice.security.SecurityConfig;
 import com.amazobank.crm.accountservice.service.AccountService;
+import com.amazobank.crm.accountservice.service.AuditLog;
 import com.amazobank.crm.accountservice.service.TransactionService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,7 +36,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(TransactionController.class)
 @AutoConfigureMockMvc
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, JsonCache.class})
 class TransactionControllerTest {
 
     @Autowired
@@ -46,6 +48,9 @@ class TransactionControllerTest {
     @MockitoBean
     private TransactionService transactionService;
 
+    @MockitoBean
+    private AuditLog auditLog;
+
     private Account buildAccount(String accountId, String agentId) {
         return Account.builder()
                 .accountId(accountId)
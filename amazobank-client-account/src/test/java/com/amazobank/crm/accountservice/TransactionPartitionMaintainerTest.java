@@ -0,0 +1,67 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.amazobank.crm.accountservice.config.TransactionPartitionProperties;
+import com.amazobank.crm.accountservice.service.TransactionPartitionMaintainer;
+
+class TransactionPartitionMaintainerTest {
+
+    private static final YearMonth NOW = YearMonth.of(2025, 11);
+
+    private JdbcTemplate jdbc;
+    private TransactionPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:partitions;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        TransactionPartitionProperties properties = new TransactionPartitionProperties();
+        properties.setMonthsAhead(2);
+        properties.setRetentionMonths(12);
+        maintainer = new TransactionPartitionMaintainer(jdbc, properties);
+    }
+
+    @Test
+    void plan_whenFutureMonthsMissing_shouldSplitThemOffTheCatchAllPartition() {
+        List<String> plan = maintainer.plan(List.of("p202510", "p202511", "pMax"), NOW);
+
+        assertEquals(List.of("ALTER TABLE Transactions REORGANIZE PARTITION pMax INTO ("
+                + "PARTITION p202512 VALUES LESS THAN ('2026-01-01'), "
+                + "PARTITION p202601 VALUES LESS THAN ('2026-02-01'), "
+                + "PARTITION pMax VALUES LESS THAN (MAXVALUE))"), plan);
+    }
+
+    @Test
+    void plan_whenMonthsFallOutOfRetention_shouldDetachThemIntoTheirOwnTables() {
+        List<String> plan = maintainer.plan(List.of("p202409", "p202410", "p202411", "p202512", "p202601", "pMax"), NOW);
+
+        assertEquals(List.of(
+                "CREATE TABLE Transactions_p202409 LIKE Transactions",
+                "ALTER TABLE Transactions_p202409 REMOVE PARTITIONING",
+                "ALTER TABLE Transactions EXCHANGE PARTITION p202409 WITH TABLE Transactions_p202409",
+                "ALTER TABLE Transactions DROP PARTITION p202409",
+                "CREATE TABLE Transactions_p202410 LIKE Transactions",
+                "ALTER TABLE Transactions_p202410 REMOVE PARTITIONING",
+                "ALTER TABLE Transactions EXCHANGE PARTITION p202410 WITH TABLE Transactions_p202410",
+                "ALTER TABLE Transactions DROP PARTITION p202410"), plan);
+    }
+
+    @Test
+    void maintain_whenDatabaseDoesNotPartition_shouldLeaveTheTableAlone() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS Transactions (TransactionID BINARY(16) NOT NULL, Date DATE NOT NULL,"
+                + " PRIMARY KEY (TransactionID, Date))");
+
+        maintainer.maintain();
+
+        assertEquals(List.of("TRANSACTIONS"), jdbc.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME LIKE 'TRANSACTIONS%'", String.class));
+    }
+}
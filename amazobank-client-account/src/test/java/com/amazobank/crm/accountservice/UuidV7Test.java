@@ -0,0 +1,56 @@
+package com.amazobank.crm.accountservice;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.accountservice.domain.UuidV7;
+
+class UuidV7Test {
+
+    @Test
+    void next_shouldSetVersionVariantAndCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    void next_whenMillisecondsApart_shouldSortInCreationOrder() throws Exception {
+        byte[] first = UuidV7.toBytes(UuidV7.next());
+        Thread.sleep(2);
+        byte[] second = UuidV7.toBytes(UuidV7.next());
+
+        // BINARY columns compare byte by byte, unsigned.
+        assertTrue(Arrays.compareUnsigned(first, second) < 0);
+    }
+
+    @Test
+    void toBytes_shouldRoundTripThroughSixteenBytes() {
+        String id = "0190a3c4-5b6d-7e8f-9a0b-1c2d3e4f5a6b";
+
+        byte[] stored = UuidV7.toBytes(UUID.fromString(id));
+
+        assertEquals(16, stored.length);
+        assertArrayEquals(new byte[] { 0x01, (byte) 0x90, (byte) 0xa3, (byte) 0xc4 }, Arrays.copyOf(stored, 4));
+        assertEquals(id, UuidV7.fromBytes(stored).toString());
+    }
+
+    @Test
+    void isValid_shouldRejectValuesThatAreNotUuids() {
+        assertTrue(UuidV7.isValid(UuidV7.next().toString()));
+        assertFalse(UuidV7.isValid("acc-001"));
+        assertFalse(UuidV7.isValid(null));
+    }
+}
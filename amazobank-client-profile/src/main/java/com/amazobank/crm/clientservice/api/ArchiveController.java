@@ -0,0 +1,51 @@
+package com.amazobank.crm.clientservice.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.amazobank.crm.clientservice.domain.ArchivedClient;
+import com.amazobank.crm.clientservice.repo.ArchivedClientRepository;
+
+/**
+ * Read-only lookups of archived clients, for administrators.
+ */
+@RestController
+@RequestMapping("/api/admin/archive/clients")
+public class ArchiveController {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveController.class);
+
+    @Autowired
+    private ArchivedClientRepository repo;
+
+    // ---------------- FIND ARCHIVED CLIENTS BY EMAIL ----------------
+    @GetMapping
+    public ResponseEntity<List<ArchivedClient>> getByEmail(@RequestParam String email, Authentication authentication) {
+        log.info("Admin {} looking up archived clients by email", authentication.getName());
+        return ResponseEntity.ok(repo.findByEmail(email));
+    }
+
+    // ---------------- GET ONE ARCHIVED CLIENT ----------------
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getOne(@PathVariable UUID id, Authentication authentication) {
+        log.info("Admin {} looking up archived client: {}", authentication.getName(), id);
+        Optional<ArchivedClient> found = repo.findById(id);
+        if (found.isEmpty()) {
+            return ResponseEntity.status(404).body(Map.of("message", "Archived client not found"));
+        }
+        return ResponseEntity.ok(found.get());
+    }
+}
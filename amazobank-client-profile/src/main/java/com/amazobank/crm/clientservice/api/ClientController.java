@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,11 +22,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.amazobank.crm.clientservice.api.dto.ClientSummaryDto;
 import com.amazobank.crm.clientservice.api.dto.CreateClientRequest;
 import com.amazobank.crm.clientservice.api.dto.UpdateClientRequest;
 import com.amazobank.crm.clientservice.domain.Client;
 import com.amazobank.crm.clientservice.domain.ClientStatus;
+import com.amazobank.crm.clientservice.service.AuditAction;
+import com.amazobank.crm.clientservice.service.AuditLog;
 import com.amazobank.crm.clientservice.service.ClientMapper;
+import com.amazobank.crm.clientservice.service.ClientOverviewService;
 import com.amazobank.crm.clientservice.service.ClientService;
 import com.amazobank.crm.clientservice.service.SqsService;
 
@@ -45,18 +50,25 @@ public class ClientController {
     @Autowired
     private SqsService sqsService;
 
+    @Autowired
+    private JsonCache jsonCache;
+
+    @Autowired
+    private ClientOverviewService overviewService;
+
+    @Autowired
+    private AuditLog auditLog;
+
     // ---------------- GET ALL CLIENTS ----------------
     @GetMapping
-    public ResponseEntity<List<Client>> getAll(HttpServletRequest request, Authentication authentication) {
+    public ResponseEntity<List<ClientSummaryDto>> getAll(HttpServletRequest request, Authentication authentication) {
         UUID agentId = UUID.fromString(authentication.getName());
 
         log.info("Fetching all clients for agent: {}", agentId);
-        List<Client> clients = service.findByAgentId(agentId);
+        List<ClientSummaryDto> clients = service.findByAgentId(agentId);
         log.debug("Found {} clients for agent: {}", clients.size(), agentId);
 
-        return ResponseEntity.ok(
-            clients
-        );
+        return ResponseEntity.ok(clients);
     }
 
     // ---------------- GET ONE CLIENT ----------------
@@ -64,7 +76,7 @@ public class ClientController {
     public ResponseEntity<?> getOne(@PathVariable UUID id, HttpServletRequest request, Authentication authentication) {
         log.info("Fetching client with id: {}", id);
 
-        Optional<Client> clientOpt = service.findById(id);
+        Optional<Client> clientOpt = service.findDetailedById(id);
         if (clientOpt.isEmpty()) {
             log.warn("Client not found: {}", id);
             return ResponseEntity.status(404).body(Map.of("message", "Client not found"));
@@ -75,13 +87,39 @@ public class ClientController {
         // Authorization check
         UUID agentId = UUID.fromString(authentication.getName());
         if (!client.getAgentId().equals(agentId)) {
-            log.warn("Forbidden access attempt: agent {} tried to access client {} owned by agent {}", 
-                     agentId, id, client.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "client", id.toString(), agentId.toString(), "read; owner " + client.getAgentId());
             return ResponseEntity.status(403).body(Map.of("message", "Forbidden"));
         }
 
         log.debug("Agent: {} accessed client: {}", agentId, id);
-        return ResponseEntity.ok(ClientMapper.toDto(client));
+        return jsonCache.ok(request, "clients/" + id, client.getVersion(), () -> ClientMapper.toDto(client));
+    }
+
+    // ---------------- GET CLIENT OVERVIEW ----------------
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<?> getOverview(@PathVariable UUID id, Authentication authentication) {
+        log.info("Fetching overview for client: {}", id);
+
+        // Start the account lookups first so they overlap with loading the client.
+        String bearerToken = authentication instanceof JwtAuthenticationToken jwt ? jwt.getToken().getTokenValue() : null;
+        ClientOverviewService.Pending pending = overviewService.start(id, bearerToken);
+
+        Optional<Client> clientOpt = service.findDetailedById(id);
+        if (clientOpt.isEmpty()) {
+            pending.cancel();
+            log.warn("Client not found: {}", id);
+            return ResponseEntity.status(404).body(Map.of("message", "Client not found"));
+        }
+
+        Client client = clientOpt.get();
+        UUID agentId = UUID.fromString(authentication.getName());
+        if (!client.getAgentId().equals(agentId)) {
+            pending.cancel();
+            auditLog.record(AuditAction.Forbidden, "client", id.toString(), agentId.toString(), "overview; owner " + client.getAgentId());
+            return ResponseEntity.status(403).body(Map.of("message", "Forbidden"));
+        }
+
+        return ResponseEntity.ok(pending.complete(ClientMapper.toDto(client)));
     }
 
     // ---------------- CREATE CLIENT ----------------
@@ -102,7 +140,7 @@ public class ClientController {
         Client client = ClientMapper.toEntity(req, agentId);
         service.save(client);
 
-        log.info("Client created successfully: clientId={}, agentId={}", client.getClientId(), agentId);
+        auditLog.record(AuditAction.Created, "client", String.valueOf(client.getClientId()), agentId.toString());
         sqsService.sendEmailNotification(client.getEmail(), "Your profile was created successfully on " + LocalDateTime.now());
         return ResponseEntity.status(201).body(ClientMapper.toDto(client));
     }
@@ -120,13 +158,12 @@ public class ClientController {
         // Authorization check
         UUID agentId = UUID.fromString(authentication.getName());
         if (!client.getAgentId().equals(agentId)) {
-        log.warn("Forbidden access attempt: agent {} tried to access client {} owned by agent {}", 
-                    agentId, clientId, client.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "client", clientId.toString(), agentId.toString(), "verify; owner " + client.getAgentId());
             return ResponseEntity.status(403).body(Map.of("message", "Forbidden"));
         }
         
         service.verify(client);
-        log.info("Client verified successfully: clientId={}, agentId={}", client.getClientId(), client.getAgentId());
+        auditLog.record(AuditAction.Verified, "client", clientId.toString(), agentId.toString());
         sqsService.sendEmailNotification(client.getEmail(), "Your profile was verified successfully on " + LocalDateTime.now());
         return ResponseEntity.ok().build();
     }
@@ -136,7 +173,7 @@ public class ClientController {
     public ResponseEntity<?> updateClient(@PathVariable UUID id, @RequestBody UpdateClientRequest req, HttpServletRequest request, Authentication authentication) {
         log.info("Updating client: {}", id);
         
-        Optional<Client> existingOpt = service.findById(id);
+        Optional<Client> existingOpt = service.findDetailedById(id);
         if (existingOpt.isEmpty()) {
             log.warn("Update failed: client not found: {}", id);
             return ResponseEntity.status(404).body(Map.of("message", "Client not found"));
@@ -154,8 +191,7 @@ public class ClientController {
         // Authorization check
         UUID agentId = UUID.fromString(authentication.getName());
         if (!existing.getAgentId().equals(agentId)) {
-            log.warn("Update forbidden: agent {} tried to update client {} owned by agent {}", 
-                     agentId, id, existing.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "client", id.toString(), agentId.toString(), "update; owner " + existing.getAgentId());
             return ResponseEntity.status(403).body(Map.of("message", "Forbidden"));
         }
 
@@ -173,7 +209,7 @@ public class ClientController {
 
         ClientMapper.updateEntity(existing, req);
         Client updated = service.update(existing);
-        log.info("Client updated successfully: {}", updated.getClientId());
+        auditLog.record(AuditAction.Updated, "client", id.toString(), agentId.toString());
         sqsService.sendEmailNotification(updated.getEmail(), "Your profile was updated successfully on " + LocalDateTime.now());
         return ResponseEntity.ok(ClientMapper.toDto(updated));
     }
@@ -193,13 +229,12 @@ public class ClientController {
 
         UUID agentId = UUID.fromString(authentication.getName());
         if (!client.getAgentId().equals(agentId)) {
-            log.warn("Delete forbidden: agent {} tried to delete client {} owned by agent {}", 
-                     agentId, id, client.getAgentId());
+            auditLog.record(AuditAction.Forbidden, "client", id.toString(), agentId.toString(), "delete; owner " + client.getAgentId());
             return ResponseEntity.status(403).body(Map.of("message", "Forbidden"));
         }
 
         service.softDelete(client);
-        log.info("Agent: {} deleted client: {} successfully", id);
+        auditLog.record(AuditAction.Deleted, "client", id.toString(), agentId.toString());
         sqsService.sendEmailNotification(client.getEmail(), "Your profile was deleted on " + LocalDateTime.now());
         return ResponseEntity.ok(Map.of("message", "Client deleted successfully"));
     }
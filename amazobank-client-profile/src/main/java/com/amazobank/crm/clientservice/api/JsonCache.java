@@ -0,0 +1,161 @@
+package com.amazobank.crm.clientservice.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.amazobank.crm.clientservice.service.RequestTimings;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Keeps the encoded JSON of hot response bodies in direct buffers, keyed by entity ID and version.
+ *
+ * A hit is written to the response as-is by {@link SerializedJsonHttpMessageConverter}, skipping both
+ * the DTO mapping and Jackson. Entries are replaced whenever the version changes, so a write on another
+ * task is picked up on the next read. Bodies without a version are never cached.
+ */
+@Component
+public class JsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+    private final Cache<String, Entry> entries;
+
+    public JsonCache(ObjectMapper objectMapper,
+            @Value("${json-cache.maximum-bytes:67108864}") long maximumBytes,
+            @Value("${json-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .<String, Entry>weigher((key, entry) -> entry.weight())
+                .build();
+    }
+
+    /**
+     * Build a 200 response for the given body, serializing it only if no entry exists for this version.
+     */
+    public ResponseEntity<?> ok(HttpServletRequest request, String key, Object version, Supplier<?> body) {
+        if (version == null) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null || !entry.version().equals(version)) {
+            entry = encode(version, body.get());
+            entries.put(key, entry);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (entry.gzip() != null && acceptsGzip(request)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(new SerializedJson(entry.gzip().duplicate()));
+        }
+        return response.body(new SerializedJson(entry.json().duplicate()));
+    }
+
+    public void invalidate(String key) {
+        entries.invalidate(key);
+    }
+
+    /**
+     * The most frequently used entries, for {@link JsonCacheSnapshot}.
+     */
+    Map<String, Entry> hottest(int limit) {
+        return entries.policy().eviction()
+                .map(eviction -> eviction.hottest(limit))
+                .orElseGet(() -> Map.copyOf(entries.asMap()));
+    }
+
+    /**
+     * Add an entry restored from a snapshot, unless a newer one was already cached.
+     */
+    void restore(String key, Entry entry) {
+        entries.asMap().putIfAbsent(key, entry);
+    }
+
+    /**
+     * Version for a collection that has no version column of its own.
+     */
+    public static String fingerprint(Stream<String> parts) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            parts.forEach(part -> {
+                md.update(part.getBytes(StandardCharsets.UTF_8));
+                md.update((byte) 0);
+            });
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private Entry encode(Object version, Object body) {
+        try {
+            RequestTimings.beginSerialization();
+            byte[] json;
+            try {
+                json = objectMapper.writeValueAsBytes(body);
+            } finally {
+                RequestTimings.endSerialization();
+            }
+            ByteBuffer gzip = null;
+            if (json.length >= gzipMinBytes) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+                try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+                    gz.write(json);
+                }
+                gzip = toDirect(out.toByteArray());
+            }
+            return new Entry(version, toDirect(json), gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response body", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    record Entry(Object version, ByteBuffer json, ByteBuffer gzip) {
+        int weight() {
+            return json.capacity() + (gzip == null ? 0 : gzip.capacity());
+        }
+    }
+
+    /**
+     * Pre-encoded JSON response body.
+     */
+    public record SerializedJson(ByteBuffer buffer) {}
+}
@@ -0,0 +1,190 @@
+package com.amazobank.crm.clientservice.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.amazobank.crm.clientservice.api.JsonCache.Entry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Saves the hottest {@link JsonCache} entries to a local file so a new task starts with a warm cache.
+ *
+ * The file is memory-mapped on startup and restored entries point straight into the mapping. This runs
+ * as an ApplicationRunner, so it completes before the task reports itself ready. Restored entries keep
+ * their version, and JsonCache only serves an entry whose version matches the row just read, so a row
+ * changed since the snapshot was taken is never served from it.
+ *
+ * That version check means a restored entry still costs the row read: what a warm start saves is the
+ * DTO mapping, Jackson and gzip, not database load. The row read also carries the ownership check, so
+ * it cannot be skipped on the strength of a snapshotted version.
+ *
+ * Tasks sharing a volume may save at the same time, so each save writes its own temporary file and
+ * moves it into place; the last move wins and every version of the file is complete.
+ */
+@Component
+public class JsonCacheSnapshot implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonCacheSnapshot.class);
+
+    private static final int MAGIC = 0x4A534E43; // "JSNC"
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 20;
+    private static final byte LONG_VERSION = 0;
+    private static final byte STRING_VERSION = 1;
+
+    private final JsonCache cache;
+    private final Path file;
+    private final int maxEntries;
+
+    public JsonCacheSnapshot(JsonCache cache,
+            @Value("${json-cache.snapshot.file:}") String file,
+            @Value("${json-cache.snapshot.max-entries:10000}") int maxEntries) {
+        this.cache = cache;
+        this.file = file.isBlank() ? null : Path.of(file);
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (file == null || !Files.isReadable(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int restored = restore(mapped);
+            log.info("Restored {} cached responses from {}", restored, file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable cache snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${json-cache.snapshot.interval:PT5M}", fixedDelayString = "${json-cache.snapshot.interval:PT5M}")
+    @PreDestroy
+    public void save() {
+        if (file == null) {
+            return;
+        }
+        try {
+            Map<String, Entry> hottest = cache.hottest(maxEntries);
+            List<byte[]> keys = new ArrayList<>(hottest.size());
+            int size = HEADER_BYTES;
+            for (Map.Entry<String, Entry> e : hottest.entrySet()) {
+                byte[] key = e.getKey().getBytes(StandardCharsets.UTF_8);
+                keys.add(key);
+                size += 2 + key.length + versionBytes(e.getValue().version())
+                        + 4 + e.getValue().json().remaining()
+                        + 4 + (e.getValue().gzip() == null ? 0 : e.getValue().gzip().remaining());
+            }
+
+            ByteBuffer out = ByteBuffer.allocateDirect(size);
+            out.position(HEADER_BYTES);
+            int i = 0;
+            for (Entry entry : hottest.values()) {
+                byte[] key = keys.get(i++);
+                out.putShort((short) key.length).put(key);
+                putVersion(out, entry.version());
+                out.putInt(entry.json().remaining()).put(entry.json().duplicate());
+                if (entry.gzip() == null) {
+                    out.putInt(-1);
+                } else {
+                    out.putInt(entry.gzip().remaining()).put(entry.gzip().duplicate());
+                }
+            }
+            out.flip();
+            CRC32C crc = new CRC32C();
+            crc.update(out.duplicate().position(HEADER_BYTES));
+            out.putInt(0, MAGIC).putInt(4, FORMAT).putInt(8, hottest.size()).putLong(12, crc.getValue());
+
+            // A unique name in the same directory, so the move is atomic and no other task writes to it.
+            Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName() + ".", ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                    while (out.hasRemaining()) {
+                        channel.write(out);
+                    }
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            log.debug("Saved {} cached responses to {}", hottest.size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not save cache snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    private int restore(MappedByteBuffer in) {
+        if (in.getInt(0) != MAGIC || in.getInt(4) != FORMAT) {
+            throw new IllegalStateException("unrecognised format");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(in.duplicate().position(HEADER_BYTES));
+        if (crc.getValue() != in.getLong(12)) {
+            throw new IllegalStateException("checksum mismatch");
+        }
+
+        int count = in.getInt(8);
+        in.position(HEADER_BYTES);
+        for (int n = 0; n < count; n++) {
+            byte[] key = new byte[in.getShort()];
+            in.get(key);
+            Object version = getVersion(in);
+            ByteBuffer json = slice(in, in.getInt());
+            int gzipLength = in.getInt();
+            ByteBuffer gzip = gzipLength < 0 ? null : slice(in, gzipLength);
+            cache.restore(new String(key, StandardCharsets.UTF_8), new Entry(version, json, gzip));
+        }
+        return count;
+    }
+
+    private static ByteBuffer slice(ByteBuffer in, int length) {
+        ByteBuffer slice = in.slice(in.position(), length).asReadOnlyBuffer();
+        in.position(in.position() + length);
+        return slice;
+    }
+
+    private static int versionBytes(Object version) {
+        if (version instanceof Long) {
+            return 1 + 8;
+        }
+        return 1 + 4 + version.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putVersion(ByteBuffer out, Object version) {
+        if (version instanceof Long value) {
+            out.put(LONG_VERSION).putLong(value);
+        } else {
+            byte[] bytes = version.toString().getBytes(StandardCharsets.UTF_8);
+            out.put(STRING_VERSION).putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static Object getVersion(ByteBuffer in) {
+        if (in.get() == LONG_VERSION) {
+            return in.getLong();
+        }
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package com.amazobank.crm.clientservice.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.amazobank.crm.clientservice.security.AgentRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Throttles each authenticated agent separately, with one budget for reads and one for writes.
+ *
+ * Runs after Spring Security so the bucket can be keyed on the JWT subject. Throttled requests get
+ * 429 with a Retry-After header and never reach the controller or the connection pool.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final AgentRateLimiter readLimiter;
+    private final AgentRateLimiter writeLimiter;
+    private final List<String> paths;
+    private final ObjectMapper objectMapper;
+    private final Counter readRejections;
+    private final Counter writeRejections;
+
+    public RateLimitFilter(AgentRateLimiter readLimiter, AgentRateLimiter writeLimiter, List<String> paths,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.paths = paths;
+        this.objectMapper = objectMapper;
+        this.readRejections = rejections(meterRegistry, "read");
+        this.writeRejections = rejections(meterRegistry, "write");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return paths.stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        Duration wait = (read ? readLimiter : writeLimiter).tryAcquire(authentication.getName());
+        if (wait.isZero()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        (read ? readRejections : writeRejections).increment();
+        long retryAfterSeconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("message",
+            "Too many requests. Retry after " + retryAfterSeconds + " seconds."));
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String endpointClass) {
+        return Counter.builder("http.server.requests.throttled")
+                .description("Requests rejected by the per-agent rate limit")
+                .tag("class", endpointClass)
+                .register(meterRegistry);
+    }
+}
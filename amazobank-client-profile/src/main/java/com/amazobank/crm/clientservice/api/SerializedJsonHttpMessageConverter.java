@@ -0,0 +1,51 @@
+package com.amazobank.crm.clientservice.api;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import com.amazobank.crm.clientservice.api.JsonCache.SerializedJson;
+
+/**
+ * Writes a {@link SerializedJson} body straight from its buffer.
+ */
+@Component
+public class SerializedJsonHttpMessageConverter extends AbstractHttpMessageConverter<SerializedJson> {
+
+    public SerializedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SerializedJson.class.equals(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SerializedJson readInternal(Class<? extends SerializedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("SerializedJson is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(SerializedJson body, MediaType contentType) {
+        return (long) body.buffer().remaining();
+    }
+
+    @Override
+    protected void writeInternal(SerializedJson body, HttpOutputMessage outputMessage) throws IOException {
+        WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+        channel.write(body.buffer());
+    }
+}
@@ -0,0 +1,155 @@
+package com.amazobank.crm.clientservice.api;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.amazobank.crm.clientservice.service.RequestTimings;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Reports where each request spent its time in a Server-Timing header and a one-line access log entry.
+ *
+ * Runs ahead of Spring Security so JWT verification is included. Headers cannot change once the body has
+ * started, so the header is added just before the first body byte is written; work done after that, such as
+ * serializing the rest of a large response, only reaches the access log.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final Logger access = LoggerFactory.getLogger("access");
+
+    private final boolean exposeHeader;
+
+    public ServerTimingFilter(boolean exposeHeader) {
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        TimingResponse timed = new TimingResponse(response, timings);
+        try {
+            chain.doFilter(request, timed);
+        } finally {
+            timed.writeTimingHeader();
+            if (access.isInfoEnabled()) {
+                access.info("method={} path={} status={} totalMs={}{}", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), String.format("%.2f", timings.elapsedNanos() / 1_000_000.0), timings.fields());
+            }
+            RequestTimings.clear();
+        }
+    }
+
+    private class TimingResponse extends HttpServletResponseWrapper {
+        private final RequestTimings timings;
+        private boolean headerAdded;
+        private ServletOutputStream outputStream;
+
+        TimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        void writeTimingHeader() {
+            if (!headerAdded && exposeHeader && !isCommitted()) {
+                setHeader(HEADER, timings.header());
+            }
+            headerAdded = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TimingOutputStream(super.getOutputStream(), this);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeTimingHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeTimingHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeTimingHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeTimingHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeTimingHeader();
+            super.sendRedirect(location);
+        }
+    }
+
+    private static class TimingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private final TimingResponse response;
+
+        TimingOutputStream(ServletOutputStream delegate, TimingResponse response) {
+            this.delegate = delegate;
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            response.writeTimingHeader();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            response.writeTimingHeader();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            response.writeTimingHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.writeTimingHeader();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
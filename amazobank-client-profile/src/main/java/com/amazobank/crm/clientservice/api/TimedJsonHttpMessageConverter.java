@@ -0,0 +1,32 @@
+package com.amazobank.crm.clientservice.api;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.amazobank.crm.clientservice.service.RequestTimings;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The default Jackson converter, reporting how long each response body takes to serialize.
+ */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings.beginSerialization();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTimings.endSerialization();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.amazobank.crm.clientservice.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A client together with their accounts and each account's transactions.
+ *
+ * When a lookup fails or misses its deadline the rest is still returned, the lookup is listed in
+ * {@code unavailable} and {@code partial} is true.
+ */
+public record ClientOverviewDto(
+        ClientDto client,
+        List<JsonNode> accounts,
+        Map<String, List<JsonNode>> transactions,
+        List<String> unavailable,
+        boolean partial
+) {}
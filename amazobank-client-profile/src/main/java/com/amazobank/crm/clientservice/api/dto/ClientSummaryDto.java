@@ -0,0 +1,21 @@
+package com.amazobank.crm.clientservice.api.dto;
+
+import java.util.UUID;
+
+import com.amazobank.crm.clientservice.domain.ClientStatus;
+import com.amazobank.crm.clientservice.domain.VerificationStatus;
+
+/**
+ * A list entry: the Clients row alone, without the details a full profile joins in. The frontend loads
+ * {@code GET /api/clients/{id}} before editing.
+ */
+public record ClientSummaryDto(
+        UUID clientId,
+        UUID agentId,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        VerificationStatus verificationStatus,
+        ClientStatus clientStatus
+) {}
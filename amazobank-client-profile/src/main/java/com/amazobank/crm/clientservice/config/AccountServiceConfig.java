@@ -0,0 +1,19 @@
+package com.amazobank.crm.clientservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.amazobank.crm.clientservice.service.AccountServiceClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.observation.ObservationRegistry;
+
+@Configuration
+public class AccountServiceConfig {
+
+    @Bean
+    public AccountServiceClient accountServiceClient(AccountServiceProperties properties, ObjectMapper objectMapper,
+            ObservationRegistry observationRegistry) {
+        return new AccountServiceClient(properties.getBaseUrl(), properties.getCallTimeout(), objectMapper, observationRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.amazobank.crm.clientservice.config;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "account-service")
+public class AccountServiceProperties {
+
+    /**
+     * Base URL of the account service, e.g. the API gateway or its internal service address.
+     */
+    private URI baseUrl = URI.create("http://localhost:8081");
+
+    /**
+     * Deadline for each individual call to the account service.
+     */
+    private Duration callTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Deadline for the whole client overview; calls still running then are reported as unavailable.
+     */
+    private Duration overviewTimeout = Duration.ofSeconds(3);
+
+    public URI getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(URI baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    public void setCallTimeout(Duration callTimeout) {
+        this.callTimeout = callTimeout;
+    }
+
+    public Duration getOverviewTimeout() {
+        return overviewTimeout;
+    }
+
+    public void setOverviewTimeout(Duration overviewTimeout) {
+        this.overviewTimeout = overviewTimeout;
+    }
+}
@@ -0,0 +1,27 @@
+package com.amazobank.crm.clientservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.amazobank.crm.clientservice.service.AuditSink;
+import com.amazobank.crm.clientservice.service.JdbcAuditSink;
+import com.amazobank.crm.clientservice.service.LogAuditSink;
+
+@Configuration
+public class AuditConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "audit", name = "sink", havingValue = "jdbc")
+    public JdbcAuditSink jdbcAuditSink(JdbcTemplate jdbc, AuditProperties properties) {
+        return new JdbcAuditSink(jdbc, properties.getSource());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(AuditSink.class)
+    public LogAuditSink logAuditSink() {
+        return new LogAuditSink();
+    }
+}
@@ -0,0 +1,23 @@
+package com.amazobank.crm.clientservice.config;
+
+import java.util.UUID;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.amazobank.crm.clientservice.domain.Client;
+import com.amazobank.crm.clientservice.repo.ClientRepository;
+import com.amazobank.crm.clientservice.service.BatchLoader;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class BatchLoaderConfig {
+
+    @Bean(destroyMethod = "close")
+    public BatchLoader<UUID, Client> clientBatchLoader(ClientRepository repo, BatchLoaderProperties properties,
+            MeterRegistry meterRegistry) {
+        return new BatchLoader<>("clients", repo::findAllById, Client::getClientId,
+                properties.getWindow(), properties.getMaxBatchSize(), properties.getThreads(), meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.amazobank.crm.clientservice.config;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.amazobank.crm.clientservice.api.IdempotencyFilter;
+import com.amazobank.crm.clientservice.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableScheduling
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyService service,
+            IdempotencyProperties properties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(service, properties.getPaths(), objectMapper));
+        // Keys are scoped per agent, so run after Spring Security has authenticated the request.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.amazobank.crm.clientservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.amazobank.crm.clientservice.service.InvalidationTransport;
+import com.amazobank.crm.clientservice.service.JdbcInvalidationTransport;
+import com.amazobank.crm.clientservice.service.LoopbackInvalidationTransport;
+
+@Configuration
+public class InvalidationConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "invalidation", name = "transport", havingValue = "jdbc")
+    public JdbcInvalidationTransport jdbcInvalidationTransport(JdbcTemplate jdbc, InvalidationProperties properties) {
+        return new JdbcInvalidationTransport(jdbc, properties.getPollInterval());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(InvalidationTransport.class)
+    public LoopbackInvalidationTransport loopbackInvalidationTransport() {
+        return new LoopbackInvalidationTransport();
+    }
+}
@@ -0,0 +1,35 @@
+package com.amazobank.crm.clientservice.config;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.amazobank.crm.clientservice.service.PurgeJob;
+import com.amazobank.crm.clientservice.service.PurgeJob.KeyType;
+
+/**
+ * The rows this service purges. Each job is picked up by the PurgeEngine.
+ */
+@Configuration
+public class PurgeConfig {
+
+    @Bean
+    public PurgeJob idempotencyKeysPurge() {
+        return new PurgeJob("idempotencyKeys", "IdempotencyKeys", "KeyHash", KeyType.Text,
+                "ExpiresAt < ?", () -> new Object[] { Timestamp.from(Instant.now()) });
+    }
+
+    @Bean
+    public PurgeJob invalidationEventsPurge(InvalidationProperties properties) {
+        return new PurgeJob("invalidationEvents", "InvalidationEvents", "Id", KeyType.Number,
+                "CreatedAt < ?", () -> new Object[] { Timestamp.from(Instant.now().minus(properties.getRetention())) });
+    }
+
+    @Bean
+    public PurgeJob archivedClientsPurge(PurgeProperties properties) {
+        return new PurgeJob("archivedClients", "ClientsArchive", "ClientID", KeyType.Binary,
+                "ArchivedAt < ?", () -> new Object[] { Timestamp.from(Instant.now().minus(properties.getArchiveRetention())) });
+    }
+}
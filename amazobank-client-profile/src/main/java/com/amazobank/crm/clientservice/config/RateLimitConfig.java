@@ -0,0 +1,37 @@
+package com.amazobank.crm.clientservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.amazobank.crm.clientservice.api.RateLimitFilter;
+import com.amazobank.crm.clientservice.security.AgentRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        RateLimitFilter filter = new RateLimitFilter(
+                limiter(properties.getRead(), properties),
+                limiter(properties.getWrite(), properties),
+                properties.getPaths(),
+                objectMapper,
+                meterRegistry);
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        // Needs the authenticated agent, and must reject before the idempotency filter claims a key.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    private static AgentRateLimiter limiter(RateLimitProperties.Limit limit, RateLimitProperties properties) {
+        return new AgentRateLimiter(limit.getCapacity(), limit.getRefillPerSecond(), properties.getIdleTimeout());
+    }
+}
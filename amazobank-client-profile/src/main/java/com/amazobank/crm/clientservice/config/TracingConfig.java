@@ -0,0 +1,53 @@
+package com.amazobank.crm.clientservice.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.amazobank.crm.clientservice.api.HandlerObservationInterceptor;
+import com.amazobank.crm.clientservice.repo.ObservedRepositoryInterceptor;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Adds controller-method and repository spans to the HTTP server spans Spring Boot already records.
+ *
+ * Export is configured under management.tracing and management.otlp.tracing.
+ */
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public TracingConfig(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerObservationInterceptor(observationRegistry));
+    }
+
+    /**
+     * Repositories are built by their factory beans, so the advice has to be registered before those initialize.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxy, repository) -> proxy.addAdvice(0, new ObservedRepositoryInterceptor(
+                                    repository.getRepositoryInterface().getSimpleName(),
+                                    () -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)))));
+                }
+                return bean;
+            }
+        };
+    }
+}
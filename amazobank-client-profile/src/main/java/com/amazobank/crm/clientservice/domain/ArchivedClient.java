@@ -0,0 +1,92 @@
+package com.amazobank.crm.clientservice.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A client that was soft-deleted longer ago than the archive grace period, as moved out of Client.
+ * Rows here are written by the archiver only and are never changed afterwards.
+ */
+@Entity
+@Table(name = "ClientsArchive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedClient {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "ClientID", length = 16)
+    private UUID clientId;
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "AgentID", nullable = false)
+    private UUID agentId;
+
+    @Column(name = "FirstName", nullable = false, length = 50)
+    private String firstName;
+
+    @Column(name = "LastName", nullable = false, length = 50)
+    private String lastName;
+
+    @Column(name = "DateOfBirth", nullable = false)
+    private LocalDate dateOfBirth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Gender", nullable = false, length = 20)
+    private Gender gender;
+
+    @Column(name = "Email", nullable = false, length = 100)
+    private String email;
+
+    @Column(name = "PhoneNumber", nullable = false, length = 20)
+    private String phoneNumber;
+
+    @Column(name = "Address", nullable = false, length = 100)
+    private String address;
+
+    @Column(name = "City", nullable = false, length = 50)
+    private String city;
+
+    @Column(name = "State", nullable = false, length = 50)
+    private String state;
+
+    @Column(name = "Country", nullable = false, length = 50)
+    private String country;
+
+    @Column(name = "PostalCode", nullable = false, length = 10)
+    private String postalCode;
+
+    @Convert(converter = VerificationStatus.CodeConverter.class)
+    @Column(name = "VerificationStatus", nullable = false)
+    private VerificationStatus verificationStatus;
+
+    @Convert(converter = ClientStatus.CodeConverter.class)
+    @Column(name = "ClientStatus", nullable = false)
+    private ClientStatus clientStatus;
+
+    @Column(name = "Version", nullable = false)
+    private Long version;
+
+    @Column(name = "DeletedAt", nullable = false)
+    private Instant deletedAt;
+
+    @Column(name = "ArchivedAt", nullable = false)
+    private Instant archivedAt;
+}
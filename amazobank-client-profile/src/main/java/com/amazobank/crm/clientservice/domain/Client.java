@@ -1,33 +1,40 @@
 package com.amazobank.crm.clientservice.domain;
 
-import java.time.LocalDate;
+import java.time.Instant;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Client {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "ClientID")
+    @UuidGenerator(algorithm = UuidV7.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "ClientID", length = 16)
     private UUID clientId;
 
     @JdbcTypeCode(SqlTypes.VARCHAR)
@@ -40,39 +47,48 @@ public class Client {
     @Column(name = "LastName", nullable = false, length = 50)
     private String lastName;
 
-    @Column(name = "DateOfBirth", nullable = false)
-    private LocalDate dateOfBirth;
-
-    @Enumerated(EnumType.STRING)
-    @Column(name = "Gender", nullable = false, length = 20)
-    private Gender gender;
-
     @Column(name = "Email", nullable = false, unique = true, length = 100)
     private String email;
 
     @Column(name = "PhoneNumber", nullable = false, unique = true, length = 20)
     private String phoneNumber;
 
-    @Column(name = "Address", nullable = false, length = 100)
-    private String address;
-
-    @Column(name = "City", nullable = false, length = 50)
-    private String city;
-
-    @Column(name = "State", nullable = false, length = 50)
-    private String state;
-
-    @Column(name = "Country", nullable = false, length = 50)
-    private String country;
-
-    @Column(name = "PostalCode", nullable = false, length = 10)
-    private String postalCode;
-
-    @Enumerated(EnumType.STRING)
-    @Column(name = "VerificationStatus", nullable = false, length = 10)
+    @Convert(converter = VerificationStatus.CodeConverter.class)
+    @Column(name = "VerificationStatus", nullable = false)
     private VerificationStatus verificationStatus;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "ClientStatus", nullable = false, length = 10)
+    @Convert(converter = ClientStatus.CodeConverter.class)
+    @Column(name = "ClientStatus", nullable = false)
     private ClientStatus clientStatus;
+
+    /**
+     * When the client was soft-deleted; null unless its status is Deleted.
+     */
+    @Column(name = "DeletedAt")
+    private Instant deletedAt;
+
+    @Version
+    @Column(name = "Version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
+    /**
+     * Date of birth, gender and address. Lazy; responses map clients through ClientMapper, so load it with
+     * {@link com.amazobank.crm.clientservice.service.ClientService#findDetailedById} when a full profile is needed.
+     */
+    @OneToOne(mappedBy = "client", fetch = FetchType.LAZY, cascade = CascadeType.ALL, optional = false)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ClientDetails details;
+
+    /**
+     * Attach details to this client; the details take the client's id when it is first saved.
+     */
+    public void setDetails(ClientDetails details) {
+        this.details = details;
+        if (details != null) {
+            details.setClient(this);
+        }
+    }
 }
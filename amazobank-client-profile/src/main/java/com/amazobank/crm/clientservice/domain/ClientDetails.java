@@ -0,0 +1,73 @@
+package com.amazobank.crm.clientservice.domain;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The personal details of a client that only a full profile needs, kept out of the Client row so that
+ * list, ownership and duplicate checks read narrow rows. Shares its primary key with the client.
+ */
+@Entity
+@Table(name = "ClientDetails")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ClientDetails {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "ClientID", length = 16)
+    private UUID clientId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "ClientID")
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Client client;
+
+    @Column(name = "DateOfBirth", nullable = false)
+    private LocalDate dateOfBirth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Gender", nullable = false, length = 20)
+    private Gender gender;
+
+    @Column(name = "Address", nullable = false, length = 100)
+    private String address;
+
+    @Column(name = "City", nullable = false, length = 50)
+    private String city;
+
+    @Column(name = "State", nullable = false, length = 50)
+    private String state;
+
+    @Column(name = "Country", nullable = false, length = 50)
+    private String country;
+
+    @Column(name = "PostalCode", nullable = false, length = 10)
+    private String postalCode;
+}
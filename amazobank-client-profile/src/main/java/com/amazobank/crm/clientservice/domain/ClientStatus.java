@@ -1,5 +1,23 @@
 package com.amazobank.crm.clientservice.domain;
 
-public enum ClientStatus {
-    Active, Deleted
+public enum ClientStatus implements CodedEnum {
+    Active(1),
+    Deleted(2);
+
+    private final byte code;
+
+    ClientStatus(int code) {
+        this.code = (byte) code;
+    }
+
+    @Override
+    public byte code() {
+        return code;
+    }
+
+    public static class CodeConverter extends CodedEnumConverter<ClientStatus> {
+        public CodeConverter() {
+            super(ClientStatus.class);
+        }
+    }
 }
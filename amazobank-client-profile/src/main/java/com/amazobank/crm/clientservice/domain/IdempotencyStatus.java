@@ -0,0 +1,9 @@
+package com.amazobank.crm.clientservice.domain;
+
+/**
+ * Lifecycle of an Idempotency-Key: claimed by the first request, then completed with its response.
+ */
+public enum IdempotencyStatus {
+    InProgress,
+    Completed
+}
@@ -0,0 +1,30 @@
+package com.amazobank.crm.clientservice.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+/**
+ * Time-ordered (version 7) UUIDs for primary keys.
+ *
+ * The first 48 bits are the Unix time in milliseconds, so new keys land at the end of the clustered
+ * index instead of at random pages. The remaining 74 bits come from ThreadLocalRandom, which needs no
+ * lock and no entropy pool per call; keys are identifiers, not secrets, and every read is authorized
+ * against the owning agent anyway.
+ */
+public class UuidV7 implements UuidValueGenerator {
+
+    public static UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return next();
+    }
+}
@@ -1,5 +1,23 @@
 package com.amazobank.crm.clientservice.domain;
 
-public enum VerificationStatus {
-    Verified, Unverified
+public enum VerificationStatus implements CodedEnum {
+    Verified(1),
+    Unverified(2);
+
+    private final byte code;
+
+    VerificationStatus(int code) {
+        this.code = (byte) code;
+    }
+
+    @Override
+    public byte code() {
+        return code;
+    }
+
+    public static class CodeConverter extends CodedEnumConverter<VerificationStatus> {
+        public CodeConverter() {
+            super(VerificationStatus.class);
+        }
+    }
 }
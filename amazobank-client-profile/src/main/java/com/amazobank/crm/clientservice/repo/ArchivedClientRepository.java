@@ -0,0 +1,12 @@
+package com.amazobank.crm.clientservice.repo;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.amazobank.crm.clientservice.domain.ArchivedClient;
+
+public interface ArchivedClientRepository extends JpaRepository<ArchivedClient, UUID> {
+    List<ArchivedClient> findByEmail(String email);
+}
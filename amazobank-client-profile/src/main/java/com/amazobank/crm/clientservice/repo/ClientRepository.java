@@ -1,7 +1,10 @@
 package com.amazobank.crm.clientservice.repo;
 
+import com.amazobank.crm.clientservice.api.dto.ClientSummaryDto;
 import com.amazobank.crm.clientservice.domain.Client;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,4 +13,12 @@ public interface ClientRepository extends JpaRepository<Client, UUID> {
     List<Client> findByAgentId(UUID agentId);
     Optional<Client> findByEmail(String email);
     Optional<Client> findByPhoneNumber(String phoneNumber);
+
+    @EntityGraph(attributePaths = "details")
+    Optional<Client> findDetailedByClientId(UUID clientId);
+
+    @Query("SELECT new com.amazobank.crm.clientservice.api.dto.ClientSummaryDto(c.clientId, c.agentId, c.firstName,"
+            + " c.lastName, c.email, c.phoneNumber, c.verificationStatus, c.clientStatus)"
+            + " FROM Client c WHERE c.agentId = ?1")
+    List<ClientSummaryDto> findSummariesByAgentId(UUID agentId);
 }
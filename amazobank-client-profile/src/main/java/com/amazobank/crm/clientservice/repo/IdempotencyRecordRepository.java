@@ -0,0 +1,28 @@
+package com.amazobank.crm.clientservice.repo;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.amazobank.crm.clientservice.domain.IdempotencyRecord;
+import com.amazobank.crm.clientservice.domain.IdempotencyStatus;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Claim a key with a plain INSERT, so a concurrent claim from another task fails on the primary key
+     * instead of being merged over the existing row.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO IdempotencyKeys (KeyHash, RequestHash, Status, CreatedAt, ExpiresAt) VALUES (?1, ?2, 'InProgress', ?3, ?4)", nativeQuery = true)
+    int claim(String keyHash, String requestHash, Instant createdAt, Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = ?2, r.responseStatus = ?3, r.contentType = ?4, r.responseBody = ?5 WHERE r.keyHash = ?1")
+    int complete(String keyHash, IdempotencyStatus status, int responseStatus, String contentType, byte[] responseBody);
+}
@@ -0,0 +1,89 @@
+package com.amazobank.crm.clientservice.repo;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.amazobank.crm.clientservice.service.RequestTimings;
+import com.amazobank.crm.clientservice.service.RequestTimings.Phase;
+
+/**
+ * Wraps the pool so every statement executed on a request thread is counted and timed in {@link RequestTimings}.
+ *
+ * Connections and statements are JDK proxies that forward every call; only the execute methods are timed.
+ */
+public class TimingDataSource extends DelegatingDataSource {
+
+    public TimingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), TimingDataSource::wrapStatements);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password), TimingDataSource::wrapStatements);
+    }
+
+    private static Object wrapStatements(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement, TimingDataSource::timeExecute);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, TimingDataSource::timeExecute);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement, TimingDataSource::timeExecute);
+        }
+        return result;
+    }
+
+    private static Object timeExecute(Object target, Method method, Object[] args) throws Throwable {
+        if (!method.getName().startsWith("execute")) {
+            return invoke(target, method, args);
+        }
+        long start = System.nanoTime();
+        try {
+            return invoke(target, method, args);
+        } finally {
+            RequestTimings.record(Phase.Db, start);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Timing" + target;
+            default -> interceptor.invoke(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(TimingDataSource.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
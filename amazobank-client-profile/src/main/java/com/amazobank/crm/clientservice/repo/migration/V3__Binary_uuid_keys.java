@@ -0,0 +1,37 @@
+package com.amazobank.crm.clientservice.repo.migration;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts Client.ClientID from VARCHAR(36) to BINARY(16).
+ *
+ * The key is copied into a new binary column, the old column is dropped and the new one takes its
+ * name. This is a Java migration because H2 has no UNHEX; its HEXTORAW decodes four hex digits per
+ * character, so H2 goes through its UUID type instead.
+ */
+@Component
+public class V3__Binary_uuid_keys extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        String converted = connection.getMetaData().getDatabaseProductName().startsWith("H2")
+                ? "CAST(CAST(ClientID AS UUID) AS BINARY(16))"
+                : "UNHEX(REPLACE(ClientID, '-', ''))";
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE Client ADD COLUMN ClientIDBin BINARY(16) NULL");
+            statement.execute("UPDATE Client SET ClientIDBin = " + converted);
+            statement.execute("ALTER TABLE Client DROP PRIMARY KEY");
+            statement.execute("ALTER TABLE Client DROP COLUMN ClientID");
+            statement.execute("ALTER TABLE Client RENAME COLUMN ClientIDBin TO ClientID");
+            statement.execute("ALTER TABLE Client MODIFY COLUMN ClientID BINARY(16) NOT NULL");
+            statement.execute("ALTER TABLE Client ADD PRIMARY KEY (ClientID)");
+        }
+    }
+}
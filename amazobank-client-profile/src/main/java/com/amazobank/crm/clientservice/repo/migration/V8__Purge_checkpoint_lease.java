@@ -0,0 +1,57 @@
+package com.amazobank.crm.clientservice.repo.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the lease columns to PurgeCheckpoints: the task running a job and when its claim on the job expires.
+ *
+ * Both services migrate the shared PurgeCheckpoints table, so whichever runs second finds the columns
+ * there already. This is a Java migration because MySQL has no ADD COLUMN IF NOT EXISTS.
+ */
+@Component
+public class V8__Purge_checkpoint_lease extends BaseJavaMigration {
+
+    private static final List<String> COLUMNS = List.of("LeaseOwner VARCHAR(36) NULL", "LeaseUntil DATETIME(6) NULL");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        for (String definition : COLUMNS) {
+            String column = definition.substring(0, definition.indexOf(' '));
+            if (hasColumn(connection.getMetaData(), "PurgeCheckpoints", column)) {
+                continue;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE PurgeCheckpoints ADD COLUMN " + definition);
+            } catch (SQLException e) {
+                // The other service may have added it since the check.
+                if (!hasColumn(connection.getMetaData(), "PurgeCheckpoints", column)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static boolean hasColumn(DatabaseMetaData metaData, String table, String column) throws SQLException {
+        String catalog = metaData.getConnection().getCatalog();
+        for (String name : List.of(table, table.toUpperCase())) {
+            try (ResultSet columns = metaData.getColumns(catalog, null, name, null)) {
+                while (columns.next()) {
+                    if (columns.getString("COLUMN_NAME").equalsIgnoreCase(column)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
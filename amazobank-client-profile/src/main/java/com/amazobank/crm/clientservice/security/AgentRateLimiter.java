@@ -0,0 +1,61 @@
+package com.amazobank.crm.clientservice.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Token bucket per agent, held in a single long per bucket and updated with compare-and-set.
+ *
+ * Each bucket stores the time at which it will next be full again (the generic cell rate algorithm),
+ * which is equivalent to a token bucket of the given capacity and refill rate but needs no lock and
+ * no background refill. Buckets live in a bounded Caffeine cache and are dropped once idle.
+ */
+public class AgentRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoTime;
+    private final Cache<String, AtomicLong> buckets;
+
+    public AgentRateLimiter(int capacity, double refillPerSecond, Duration idleTimeout) {
+        this(capacity, refillPerSecond, idleTimeout, System::nanoTime);
+    }
+
+    public AgentRateLimiter(int capacity, double refillPerSecond, Duration idleTimeout, LongSupplier nanoTime) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Take one token from the agent's bucket.
+     *
+     * @return zero if the request is allowed, otherwise how long the agent must wait before retrying
+     */
+    public Duration tryAcquire(String agent) {
+        AtomicLong bucket = buckets.get(agent, key -> new AtomicLong(nanoTime.getAsLong()));
+        while (true) {
+            long now = nanoTime.getAsLong();
+            long stored = bucket.get();
+            long tat = stored - now < 0 ? now : stored;
+            long wait = tat - now - burstToleranceNanos;
+            if (wait > 0) {
+                return Duration.ofNanos(wait);
+            }
+            if (bucket.compareAndSet(stored, tat + emissionIntervalNanos)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+}
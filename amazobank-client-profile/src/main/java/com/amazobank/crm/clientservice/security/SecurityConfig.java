@@ -1,10 +1,14 @@
 package com.amazobank.crm.clientservice.security;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -13,24 +17,36 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
     
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder, VerifiedJwtCache verifiedJwtCache) throws Exception {
 
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
         converter.setJwtGrantedAuthoritiesConverter(new CognitoGroupGrantedAuthoritiesConverter());
 
         http.csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                    .requestMatchers("/actuator/jfr").hasAnyRole("ADMIN", "SUPERADMIN")
                     .requestMatchers("/actuator/**").permitAll()
                     .requestMatchers("/health").permitAll()
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                     .requestMatchers("/api/clients/**").hasRole("AGENT")
+                    .requestMatchers("/api/admin/**").hasAnyRole("ADMIN", "SUPERADMIN")
                     .anyRequest().denyAll()
                 )
                 .oauth2ResourceServer((oauth2) -> oauth2
                     .jwt(jwt -> jwt
-                        .jwtAuthenticationConverter(converter)
+                        .authenticationManager(new CachingJwtAuthenticationManager(jwtDecoder, converter, verifiedJwtCache))
                     )
                 );
         return http.build();
     }
+
+    /**
+     * Verified tokens are reused until they expire so the signature check only runs once per token.
+     */
+    @Bean
+    public VerifiedJwtCache verifiedJwtCache(
+            @Value("${security.jwt.cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.jwt.cache.max-ttl:PT10M}") Duration maxTtl) {
+        return new VerifiedJwtCache(maximumSize, maxTtl);
+    }
 }
@@ -0,0 +1,109 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.RequestReplySenderContext;
+
+/**
+ * Non-blocking client for the account service's read endpoints.
+ *
+ * One HttpClient is shared by all requests, so connections are pooled and, where the server supports
+ * it, concurrent calls are multiplexed over a single HTTP/2 connection. Bodies are passed through as
+ * JSON trees rather than re-mapped, since this service only relays them. Each call carries the caller's
+ * trace context in a traceparent header, so the account service's spans join the same trace.
+ */
+public class AccountServiceClient {
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final Duration callTimeout;
+    private final ObjectMapper objectMapper;
+    private final ObservationRegistry observationRegistry;
+
+    public AccountServiceClient(URI baseUrl, Duration callTimeout, ObjectMapper objectMapper) {
+        this(baseUrl, callTimeout, objectMapper, ObservationRegistry.NOOP);
+    }
+
+    public AccountServiceClient(URI baseUrl, Duration callTimeout, ObjectMapper objectMapper,
+            ObservationRegistry observationRegistry) {
+        this.baseUrl = baseUrl;
+        this.callTimeout = callTimeout;
+        this.objectMapper = objectMapper;
+        this.observationRegistry = observationRegistry;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(callTimeout)
+                .build();
+    }
+
+    public CompletableFuture<List<JsonNode>> findAccountsByClientId(UUID clientId, String bearerToken) {
+        return getList("GET /api/accounts", "/api/accounts?clientId=" + clientId, bearerToken);
+    }
+
+    public CompletableFuture<List<JsonNode>> findTransactions(String accountId, String bearerToken) {
+        return getList("GET /api/accounts/{id}/transactions", "/api/accounts/" + URLEncoder.encode(accountId, StandardCharsets.UTF_8) + "/transactions", bearerToken);
+    }
+
+    private CompletableFuture<List<JsonNode>> getList(String operation, String path, String bearerToken) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(callTimeout)
+                .header("Accept", "application/json")
+                .GET();
+        if (bearerToken != null) {
+            request.header("Authorization", "Bearer " + bearerToken);
+        }
+
+        // Starting the observation writes the trace headers, so the request is built afterwards.
+        RequestReplySenderContext<HttpRequest.Builder, HttpResponse<byte[]>> context =
+                new RequestReplySenderContext<>(HttpRequest.Builder::header);
+        context.setCarrier(request);
+        context.setRemoteServiceName("client-account");
+        Observation observation = Observation.createNotStarted("account-service.call", () -> context, observationRegistry)
+                .contextualName(operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .start();
+
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException(path + " returned HTTP " + response.statusCode());
+                    }
+                    return parseList(response.body());
+                })
+                .orTimeout(callTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((items, error) -> {
+                    if (error != null) {
+                        observation.error(error);
+                    }
+                    observation.stop();
+                });
+    }
+
+    private List<JsonNode> parseList(byte[] body) {
+        try {
+            List<JsonNode> items = new ArrayList<>();
+            objectMapper.readTree(body).forEach(items::add);
+            return items;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
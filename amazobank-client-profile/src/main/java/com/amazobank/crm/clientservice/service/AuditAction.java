@@ -0,0 +1,5 @@
+package com.amazobank.crm.clientservice.service;
+
+public enum AuditAction {
+    Created, Updated, Verified, Deleted, Forbidden
+}
@@ -0,0 +1,8 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.time.Instant;
+
+/**
+ * One audit record as handed to an {@link AuditSink}.
+ */
+public record AuditEvent(Instant occurredAt, AuditAction action, String entityType, String entityId, String agentId, String detail) {}
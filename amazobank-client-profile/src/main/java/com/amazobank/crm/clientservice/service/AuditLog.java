@@ -0,0 +1,192 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.amazobank.crm.clientservice.config.AuditProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Records audit events without doing any I/O on the request thread.
+ *
+ * Events are copied into a fixed ring of preallocated slots: a producer claims a sequence number with one
+ * CAS, fills the slot and publishes it. A single drain thread hands published events to the {@link AuditSink}
+ * in batches, in sequence order. When the ring is full the event is dropped and counted, or under the block
+ * policy the producer waits up to the block timeout for the drain thread to free a slot.
+ */
+@Component
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final int MAX_DETAIL_LENGTH = 255;
+
+    private final AuditSink sink;
+    private final Slot[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final int batchSize;
+    private final boolean block;
+    private final long blockTimeoutNanos;
+    private final AtomicLong claimed = new AtomicLong();
+    private final Counter dropped;
+    private final Counter failed;
+    private final ScheduledExecutorService drainer;
+
+    /** Next sequence to drain; every slot before it is free. Written by the drain thread only. */
+    private volatile long drained;
+
+    public AuditLog(AuditSink sink, AuditProperties properties, MeterRegistry meterRegistry) {
+        this.sink = sink;
+        int capacity = Integer.highestOneBit(Math.max(2, properties.getCapacity()) - 1) << 1;
+        this.slots = new Slot[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.batchSize = properties.getBatchSize();
+        this.block = "block".equals(properties.getOverflow());
+        this.blockTimeoutNanos = properties.getBlockTimeout().toNanos();
+
+        this.dropped = Counter.builder("audit.events.dropped")
+                .description("Audit events discarded because the ring buffer was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("audit.events.failed")
+                .description("Audit events lost because the sink rejected them")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.depth", this, audit -> audit.claimed.get() - audit.drained)
+                .description("Audit events waiting to be drained")
+                .register(meterRegistry);
+
+        this.drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushInterval().toMillis();
+        drainer.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void record(AuditAction action, String entityType, String entityId, String agentId) {
+        record(action, entityType, entityId, agentId, null);
+    }
+
+    public void record(AuditAction action, String entityType, String entityId, String agentId, String detail) {
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        int index = (int) (sequence & mask);
+        Slot slot = slots[index];
+        slot.occurredAt = System.currentTimeMillis();
+        slot.action = action;
+        slot.entityType = entityType;
+        slot.entityId = entityId;
+        slot.agentId = agentId;
+        slot.detail = detail != null && detail.length() > MAX_DETAIL_LENGTH ? detail.substring(0, MAX_DETAIL_LENGTH) : detail;
+        published.set(index, sequence);
+
+        // Wake the drain thread early rather than letting a burst fill the ring.
+        if (sequence - drained == slots.length / 2) {
+            wakeDrainer();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        drainer.shutdown();
+        drainer.awaitTermination(1, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * Hand everything published so far to the sink. Runs on the drain thread, or on the caller once the
+     * drain thread has stopped.
+     */
+    public void flush() {
+        long next = drained;
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            while (batch.size() < batchSize && published.get((int) (next & mask)) == next) {
+                batch.add(slots[(int) (next & mask)].toEvent());
+                next++;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            // The batch holds copies, so the slots can be reused while the sink writes.
+            drained = next;
+            try {
+                sink.write(batch);
+            } catch (RuntimeException e) {
+                failed.increment(batch.size());
+                log.warn("Failed to write {} audit events: {}", batch.size(), e.getMessage());
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private long claim() {
+        long deadline = 0;
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - drained < slots.length) {
+                if (claimed.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+                continue;
+            }
+            if (!block) {
+                return -1;
+            }
+            long now = System.nanoTime();
+            if (deadline == 0) {
+                deadline = now + blockTimeoutNanos;
+                wakeDrainer();
+            } else if (now - deadline >= 0) {
+                return -1;
+            }
+            LockSupport.parkNanos(50_000);
+        }
+    }
+
+    private void wakeDrainer() {
+        try {
+            drainer.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; close() drains what is left.
+        }
+    }
+
+    private static final class Slot {
+        long occurredAt;
+        AuditAction action;
+        String entityType;
+        String entityId;
+        String agentId;
+        String detail;
+
+        AuditEvent toEvent() {
+            return new AuditEvent(Instant.ofEpochMilli(occurredAt), action, entityType, entityId, agentId, detail);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.util.List;
+
+/**
+ * Durable destination for drained audit events. Called from the audit drain thread only.
+ */
+public interface AuditSink {
+
+    void write(List<AuditEvent> events);
+}
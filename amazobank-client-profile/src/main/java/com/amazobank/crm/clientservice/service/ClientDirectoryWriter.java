@@ -0,0 +1,85 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.amazobank.crm.clientservice.domain.Client;
+import com.amazobank.crm.clientservice.domain.ClientStatus;
+
+/**
+ * Publishes the client facts other services replicate (owning agent, email, status) to the
+ * ClientDirectory table.
+ *
+ * Every client write updates its row, unless the row already holds a newer version. On startup, rows missing or older than the Client table are
+ * filled in, so a write that failed to reach the directory is repaired on the next deployment.
+ */
+@Component
+public class ClientDirectoryWriter implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientDirectoryWriter.class);
+
+    /**
+     * Client stores status codes; the directory stores the enum names, as {@link #write} does and its readers expect.
+     */
+    private static final String STATUS_NAME = Arrays.stream(ClientStatus.values())
+            .map(status -> " WHEN " + status.code() + " THEN '" + status.name() + "'")
+            .collect(Collectors.joining("", "CASE c.ClientStatus", " END"));
+
+    /**
+     * Writes race: a request holding an older copy of the client can reach the directory after a newer
+     * one, so a row only moves forward in version. Version is assigned last, because MySQL evaluates
+     * the assignments in order and the guards must see the stored version.
+     */
+    private static final String ON_DUPLICATE = Stream.of("AgentID", "Email", "ClientStatus", "UpdatedAt", "Version")
+            .map(column -> column + " = CASE WHEN VALUES(Version) >= Version THEN VALUES(" + column + ")"
+                    + " ELSE " + column + " END")
+            .collect(Collectors.joining(", ", "ON DUPLICATE KEY UPDATE ", ""));
+
+    private final JdbcTemplate jdbc;
+
+    public ClientDirectoryWriter(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            // Client keys are BINARY(16) and directory keys their text form; H2 has no BIN_TO_UUID.
+            String clientId = Boolean.TRUE.equals(jdbc.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().startsWith("H2")))
+                    ? "CAST(CAST(c.ClientID AS UUID) AS VARCHAR(36))"
+                    : "BIN_TO_UUID(c.ClientID)";
+            int updated = jdbc.update("""
+                    INSERT INTO ClientDirectory (ClientID, AgentID, Email, ClientStatus, Version, UpdatedAt)
+                    SELECT %1$s, c.AgentID, c.Email, %2$s, c.Version, CURRENT_TIMESTAMP(6)
+                    FROM Client c LEFT JOIN ClientDirectory d ON d.ClientID = %1$s
+                    WHERE d.ClientID IS NULL OR d.Version < c.Version
+                    """.formatted(clientId, STATUS_NAME) + ON_DUPLICATE);
+            log.info("Synchronised {} clients into the client directory", updated);
+        } catch (RuntimeException e) {
+            log.warn("Failed to synchronise the client directory: {}", e.getMessage());
+        }
+    }
+
+    public void write(Client client) {
+        try {
+            jdbc.update("""
+                    INSERT INTO ClientDirectory (ClientID, AgentID, Email, ClientStatus, Version, UpdatedAt)
+                    VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP(6))
+                    """ + ON_DUPLICATE,
+                    client.getClientId().toString(), client.getAgentId().toString(), client.getEmail(),
+                    client.getClientStatus().name(), client.getVersion() == null ? 0 : client.getVersion());
+        } catch (RuntimeException e) {
+            log.warn("Failed to update client {} in the client directory: {}", client.getClientId(), e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.amazobank.crm.clientservice.service;
 
 import com.amazobank.crm.clientservice.api.dto.*;
 import com.amazobank.crm.clientservice.domain.Client;
+import com.amazobank.crm.clientservice.domain.ClientDetails;
 import com.amazobank.crm.clientservice.domain.ClientStatus;
 import com.amazobank.crm.clientservice.domain.Gender;
 import com.amazobank.crm.clientservice.domain.VerificationStatus;
@@ -10,21 +11,25 @@ import java.util.UUID;
 
 public class ClientMapper {
 
+    /**
+     * The full profile, so the client's details must have been loaded with it.
+     */
     public static ClientDto toDto(Client c) {
+        ClientDetails d = c.getDetails();
         return new ClientDto(
             c.getClientId(),
             c.getAgentId(),
             c.getFirstName(),
             c.getLastName(),
-            c.getDateOfBirth(),
-            c.getGender().name(),
+            d.getDateOfBirth(),
+            d.getGender().name(),
             c.getEmail(),
             c.getPhoneNumber(),
-            c.getAddress(),
-            c.getCity(),
-            c.getState(),
-            c.getCountry(),
-            c.getPostalCode(),
+            d.getAddress(),
+            d.getCity(),
+            d.getState(),
+            d.getCountry(),
+            d.getPostalCode(),
             c.getVerificationStatus(),
             c.getClientStatus()
         );
@@ -35,32 +40,40 @@ public class ClientMapper {
         c.setAgentId(agentId);
         c.setFirstName(req.firstName());
         c.setLastName(req.lastName());
-        c.setDateOfBirth(req.dateOfBirth());
-        c.setGender(Gender.valueOf(req.gender()));
         c.setEmail(req.email());
         c.setPhoneNumber(req.phoneNumber());
-        c.setAddress(req.address());
-        c.setCity(req.city());
-        c.setState(req.state());
-        c.setCountry(req.country());
-        c.setPostalCode(req.postalCode());
         c.setVerificationStatus(VerificationStatus.Unverified);
         c.setClientStatus(ClientStatus.Active);
+
+        ClientDetails d = new ClientDetails();
+        d.setDateOfBirth(req.dateOfBirth());
+        d.setGender(Gender.valueOf(req.gender()));
+        d.setAddress(req.address());
+        d.setCity(req.city());
+        d.setState(req.state());
+        d.setCountry(req.country());
+        d.setPostalCode(req.postalCode());
+        c.setDetails(d);
         return c;
     }
 
+    /**
+     * Apply the fields present in the request, so the client's details must have been loaded with it.
+     */
     public static void updateEntity(Client c, UpdateClientRequest req) {
         if (req.firstName() != null) c.setFirstName(req.firstName());
         if (req.lastName() != null) c.setLastName(req.lastName());
-        if (req.dateOfBirth() != null) c.setDateOfBirth(req.dateOfBirth());
-        if (req.gender() != null) c.setGender(Gender.valueOf(req.gender()));
         if (req.email() != null) c.setEmail(req.email());
         if (req.phoneNumber() != null) c.setPhoneNumber(req.phoneNumber());
-        if (req.address() != null) c.setAddress(req.address());
-        if (req.city() != null) c.setCity(req.city());
-        if (req.state() != null) c.setState(req.state());
-        if (req.country() != null) c.setCountry(req.country());
-        if (req.postalCode() != null) c.setPostalCode(req.postalCode());
         if (req.clientStatus() != null) c.setClientStatus(req.clientStatus());
+
+        ClientDetails d = c.getDetails();
+        if (req.dateOfBirth() != null) d.setDateOfBirth(req.dateOfBirth());
+        if (req.gender() != null) d.setGender(Gender.valueOf(req.gender()));
+        if (req.address() != null) d.setAddress(req.address());
+        if (req.city() != null) d.setCity(req.city());
+        if (req.state() != null) d.setState(req.state());
+        if (req.country() != null) d.setCountry(req.country());
+        if (req.postalCode() != null) d.setPostalCode(req.postalCode());
     }
 }
@@ -0,0 +1,115 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.amazobank.crm.clientservice.api.dto.ClientDto;
+import com.amazobank.crm.clientservice.api.dto.ClientOverviewDto;
+import com.amazobank.crm.clientservice.config.AccountServiceProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Builds a client overview from the account service with as few sequential round trips as possible.
+ *
+ * The accounts lookup starts before the caller has even loaded the client, and the transaction lookups
+ * for all accounts are then sent at once. Whatever has not arrived by the overview deadline is
+ * reported as unavailable instead of failing the whole response.
+ */
+@Service
+public class ClientOverviewService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientOverviewService.class);
+
+    private final AccountServiceClient accountServiceClient;
+    private final Duration overviewTimeout;
+
+    public ClientOverviewService(AccountServiceClient accountServiceClient, AccountServiceProperties properties) {
+        this.accountServiceClient = accountServiceClient;
+        this.overviewTimeout = properties.getOverviewTimeout();
+    }
+
+    /**
+     * Start the remote lookups for a client. Call {@link Pending#complete} once the client has been
+     * loaded and authorised, or {@link Pending#cancel} if it was not.
+     */
+    public Pending start(UUID clientId, String bearerToken) {
+        return new Pending(clientId, bearerToken, System.nanoTime() + overviewTimeout.toNanos(),
+                accountServiceClient.findAccountsByClientId(clientId, bearerToken));
+    }
+
+    public class Pending {
+        private final UUID clientId;
+        private final String bearerToken;
+        private final long deadline;
+        private final CompletableFuture<List<JsonNode>> accounts;
+
+        private Pending(UUID clientId, String bearerToken, long deadline, CompletableFuture<List<JsonNode>> accounts) {
+            this.clientId = clientId;
+            this.bearerToken = bearerToken;
+            this.deadline = deadline;
+            this.accounts = accounts;
+        }
+
+        public void cancel() {
+            accounts.cancel(true);
+        }
+
+        public ClientOverviewDto complete(ClientDto client) {
+            List<String> unavailable = new ArrayList<>();
+            List<JsonNode> accountList = await(accounts, "accounts", unavailable);
+            if (accountList == null) {
+                return new ClientOverviewDto(client, List.of(), Map.of(), unavailable, true);
+            }
+            // The lookup is filtered by client, but an account service that ignored the filter would
+            // otherwise expose the agent's other clients here.
+            accountList = accountList.stream()
+                    .filter(account -> clientId.toString().equalsIgnoreCase(account.path("clientId").asText()))
+                    .toList();
+
+            Map<String, CompletableFuture<List<JsonNode>>> calls = new LinkedHashMap<>();
+            for (JsonNode account : accountList) {
+                String accountId = account.path("accountId").asText();
+                calls.put(accountId, accountServiceClient.findTransactions(accountId, bearerToken));
+            }
+
+            Map<String, List<JsonNode>> transactions = new LinkedHashMap<>();
+            calls.forEach((accountId, call) -> {
+                List<JsonNode> result = await(call, "transactions:" + accountId, unavailable);
+                if (result != null) {
+                    transactions.put(accountId, result);
+                }
+            });
+            return new ClientOverviewDto(client, accountList, transactions, unavailable, !unavailable.isEmpty());
+        }
+
+        private List<JsonNode> await(CompletableFuture<List<JsonNode>> call, String name, List<String> unavailable) {
+            long start = System.nanoTime();
+            try {
+                return call.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                call.cancel(true);
+                log.warn("Overview for client {}: {} missed the deadline", clientId, name);
+            } catch (ExecutionException e) {
+                log.warn("Overview for client {}: {} failed: {}", clientId, name, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                RequestTimings.record(RequestTimings.Phase.Upstream, start);
+            }
+            unavailable.add(name);
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.amazobank.crm.clientservice.service;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,30 +8,68 @@ import java.util.UUID;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
+import com.amazobank.crm.clientservice.api.JsonCache;
+import com.amazobank.crm.clientservice.api.dto.ClientSummaryDto;
 import com.amazobank.crm.clientservice.api.dto.UpdateClientRequest;
 import com.amazobank.crm.clientservice.domain.Client;
 import com.amazobank.crm.clientservice.domain.ClientStatus;
 import com.amazobank.crm.clientservice.domain.VerificationStatus;
 import com.amazobank.crm.clientservice.repo.ClientRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class ClientService {
     private final ClientRepository repo;
+    private final BatchLoader<UUID, Client> batchLoader;
+    private final JsonCache jsonCache;
+    private final InvalidationBus invalidationBus;
+    private final ClientDirectoryWriter directoryWriter;
+    private final SingleFlight<UUID, Optional<Client>> byId;
 
-    public ClientService(ClientRepository repo, SqsService sqsService) {
+    public ClientService(ClientRepository repo, SqsService sqsService, BatchLoader<UUID, Client> batchLoader,
+            JsonCache jsonCache, InvalidationBus invalidationBus, ClientDirectoryWriter directoryWriter,
+            MeterRegistry meterRegistry) {
         this.repo = repo;
+        this.batchLoader = batchLoader;
+        this.jsonCache = jsonCache;
+        this.invalidationBus = invalidationBus;
+        this.directoryWriter = directoryWriter;
+        this.byId = new SingleFlight<>("clients", meterRegistry, result -> result.map(ClientService::snapshot));
+        invalidationBus.subscribe("client", event -> invalidate(UUID.fromString(event.id())));
     }
 
     public List<Client> findAll() {
         return repo.findAll();
     }
 
-    public List<Client> findByAgentId(UUID agentId) {
-        return repo.findByAgentId(agentId);
+    /**
+     * The agent's clients as list entries, read from the Clients row alone; the frontend loads the full
+     * profile with {@link #findDetailedById} before editing one.
+     */
+    public List<ClientSummaryDto> findByAgentId(UUID agentId) {
+        return repo.findSummariesByAgentId(agentId);
     }
 
     public Optional<Client> findById(@NonNull UUID id) {
-        return repo.findById(id);
+        return byId.execute(id, () -> batchLoader.load(id));
+    }
+
+    /**
+     * A copy of the Client row for one caller of {@link #findById}. The loaded details are an uninitialised
+     * proxy whose session is closed, so they are left out rather than shared; use {@link #findDetailedById}
+     * when they are needed.
+     */
+    private static Client snapshot(Client client) {
+        return client.toBuilder().details(null).build();
+    }
+
+    /**
+     * The client joined with its details, for responses that carry the full profile. Not batched: the
+     * batch loader's copies hold only the core row, and a second query for the details would cost more.
+     */
+    public Optional<Client> findDetailedById(@NonNull UUID id) {
+        return repo.findDetailedByClientId(id);
     }
 
     public Optional<Client> findByEmail(String email) {
@@ -50,16 +89,50 @@ public class ClientService {
          * Simulate real world verification has completed.
          */
         client.setVerificationStatus(VerificationStatus.Verified);
-        repo.save(client);
+        changed(repo.save(client));
     }
 
     public Client save(@NonNull Client client) {
-        return repo.save(client);
+        stampDeletion(client);
+        Client saved = repo.save(client);
+        changed(saved);
+        return saved;
     }
 
     public void softDelete(@NonNull Client client) {
         // Soft delete: set client status to "Deleted"
         client.setClientStatus(ClientStatus.Deleted);
-        repo.save(client);
+        stampDeletion(client);
+        changed(repo.save(client));
+    }
+
+    /**
+     * Drop a client that was moved to the archive from every task's caches.
+     */
+    public void archived(@NonNull UUID clientId) {
+        invalidate(clientId);
+        invalidationBus.publish("client", clientId, null);
+    }
+
+    /**
+     * Keep deletedAt in step with the status, which an update may also set to Deleted or back.
+     */
+    private void stampDeletion(Client client) {
+        if (client.getClientStatus() != ClientStatus.Deleted) {
+            client.setDeletedAt(null);
+        } else if (client.getDeletedAt() == null) {
+            client.setDeletedAt(Instant.now());
+        }
+    }
+
+    private void changed(Client client) {
+        invalidate(client.getClientId());
+        invalidationBus.publish("client", client.getClientId(), client.getVersion());
+        directoryWriter.write(client);
+    }
+
+    private void invalidate(UUID id) {
+        byId.forget(id);
+        jsonCache.invalidate("clients/" + id);
     }
 }
@@ -0,0 +1,119 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.amazobank.crm.clientservice.config.SoftDeleteArchiveProperties;
+import com.amazobank.crm.clientservice.domain.ClientStatus;
+
+/**
+ * Moves clients that were soft-deleted longer ago than the grace period from Client and ClientDetails to
+ * ClientsArchive, which keeps both halves in one row.
+ *
+ * Each chunk is copied and deleted in one transaction, and both statements repeat the status and
+ * DeletedAt conditions, so a client restored after it was picked is left where it is. When two tasks
+ * pick the same chunk, the second insert fails on the archive's primary key and that task stops until its
+ * next run.
+ */
+@Service
+public class DeletedClientArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(DeletedClientArchiver.class);
+    private static final String COLUMNS = "ClientID, AgentID, FirstName, LastName, DateOfBirth, Gender, Email, PhoneNumber, "
+            + "Address, City, State, Country, PostalCode, VerificationStatus, ClientStatus, Version, DeletedAt";
+    private static final String JOINED_COLUMNS = "c.ClientID, c.AgentID, c.FirstName, c.LastName, d.DateOfBirth, d.Gender, "
+            + "c.Email, c.PhoneNumber, d.Address, d.City, d.State, d.Country, d.PostalCode, c.VerificationStatus, "
+            + "c.ClientStatus, c.Version, c.DeletedAt";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactions;
+    private final ClientService clientService;
+    private final SoftDeleteArchiveProperties properties;
+    private final Clock clock;
+
+    public DeletedClientArchiver(JdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+            ClientService clientService, SoftDeleteArchiveProperties properties) {
+        this.jdbc = jdbc;
+        this.transactions = new TransactionTemplate(transactionManager);
+        this.clientService = clientService;
+        this.properties = properties;
+        this.clock = Clock.systemUTC();
+    }
+
+    @Scheduled(fixedDelayString = "${soft-delete-archive.interval:PT1H}",
+            initialDelayString = "${soft-delete-archive.interval:PT1H}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int archived = archive();
+            if (archived > 0) {
+                log.info("Archived {} deleted clients", archived);
+            }
+        } catch (DuplicateKeyException e) {
+            log.info("Another task is archiving the same deleted clients; stopping until the next run");
+        } catch (RuntimeException e) {
+            log.warn("Archiving deleted clients failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archive every client deleted before the grace period, one chunk at a time.
+     *
+     * @return the number of clients archived
+     */
+    public int archive() {
+        Timestamp cutoff = Timestamp.from(clock.instant().minus(properties.getGrace()));
+        int total = 0;
+        while (true) {
+            List<byte[]> ids = jdbc.queryForList(
+                    "SELECT ClientID FROM Client WHERE ClientStatus = ? AND DeletedAt < ? ORDER BY DeletedAt LIMIT ?",
+                    byte[].class, ClientStatus.Deleted.code(), cutoff, properties.getChunkSize());
+            if (ids.isEmpty()) {
+                return total;
+            }
+            total += transactions.execute(status -> moveChunk(ids, cutoff));
+            for (byte[] id : ids) {
+                ByteBuffer buffer = ByteBuffer.wrap(id);
+                clientService.archived(new UUID(buffer.getLong(), buffer.getLong()));
+            }
+            if (ids.size() < properties.getChunkSize()) {
+                return total;
+            }
+        }
+    }
+
+    private int moveChunk(List<byte[]> ids, Timestamp cutoff) {
+        String condition = " WHERE ClientStatus = ? AND DeletedAt < ? AND ClientID IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        String picked = "SELECT ClientID FROM Client" + condition;
+        Object[] args = new Object[ids.size() + 3];
+        args[0] = Timestamp.from(clock.instant());
+        args[1] = ClientStatus.Deleted.code();
+        args[2] = cutoff;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 3] = ids.get(i);
+        }
+        Object[] pickedArgs = Arrays.copyOfRange(args, 1, args.length);
+        int copied = jdbc.update("INSERT INTO ClientsArchive (" + COLUMNS + ", ArchivedAt) SELECT " + JOINED_COLUMNS + ", ?"
+                + " FROM Client c JOIN ClientDetails d ON d.ClientID = c.ClientID WHERE c.ClientID IN (" + picked + ")", args);
+        jdbc.update("DELETE FROM ClientDetails WHERE ClientID IN (" + picked + ")", pickedArgs);
+        jdbc.update("DELETE FROM Client" + condition, pickedArgs);
+        return copied;
+    }
+}
@@ -0,0 +1,6 @@
+package com.amazobank.crm.clientservice.service;
+
+/**
+ * Broadcast after an entity is written, so other tasks can drop what they cached for it.
+ */
+public record EntityChanged(String type, String id, long version) {}
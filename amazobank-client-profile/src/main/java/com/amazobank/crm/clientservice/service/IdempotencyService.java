@@ -0,0 +1,187 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.amazobank.crm.clientservice.config.IdempotencyProperties;
+import com.amazobank.crm.clientservice.domain.IdempotencyRecord;
+import com.amazobank.crm.clientservice.domain.IdempotencyStatus;
+import com.amazobank.crm.clientservice.repo.IdempotencyRecordRepository;
+
+/**
+ * Runs a request at most once per Idempotency-Key and replays its stored response for retries.
+ *
+ * Duplicates arriving at the same task wait on the first request's future. Duplicates arriving at
+ * another task find the key claimed in the IdempotencyKeys table and poll it until the response is stored.
+ * Server errors are not stored, so a retry after a 5xx runs the request again.
+ */
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository repo;
+    private final IdempotencyProperties properties;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository repo, IdempotencyProperties properties) {
+        this.repo = repo;
+        this.properties = properties;
+        this.clock = Clock.systemUTC();
+    }
+
+    public Outcome execute(String keyHash, String requestHash, Callable<StoredResponse> action) throws Exception {
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(keyHash, mine);
+        if (existing != null) {
+            return awaitLocal(existing, requestHash);
+        }
+
+        try {
+            Outcome outcome = claimOrReplay(keyHash, requestHash, action);
+            mine.future().complete(outcome);
+            return outcome;
+        } catch (Exception e) {
+            mine.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(keyHash, mine);
+        }
+    }
+
+    private Outcome awaitLocal(InFlight existing, String requestHash) throws InterruptedException {
+        if (!existing.requestHash().equals(requestHash)) {
+            return Outcome.keyReused();
+        }
+        try {
+            Outcome first = existing.future().get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return first.response() == null ? first : Outcome.replayed(first.response());
+        } catch (TimeoutException | ExecutionException e) {
+            return Outcome.inProgress();
+        }
+    }
+
+    private Outcome claimOrReplay(String keyHash, String requestHash, Callable<StoredResponse> action) throws Exception {
+        Instant now = clock.instant();
+        Optional<IdempotencyRecord> found = repo.findById(keyHash);
+        if (found.isPresent() && found.get().getExpiresAt().isAfter(now)) {
+            return replayOrWait(found.get(), requestHash);
+        }
+        found.ifPresent(repo::delete);
+
+        try {
+            repo.claim(keyHash, requestHash, now, now.plus(properties.getTtl()));
+        } catch (DataIntegrityViolationException e) {
+            // Another task claimed the key between our read and our insert.
+            return repo.findById(keyHash)
+                    .map(record -> replayOrWait(record, requestHash))
+                    .orElseGet(Outcome::inProgress);
+        }
+
+        StoredResponse response;
+        try {
+            response = action.call();
+        } catch (Exception e) {
+            repo.deleteById(keyHash);
+            throw e;
+        }
+
+        if (response.status() >= 500) {
+            repo.deleteById(keyHash);
+        } else {
+            repo.complete(keyHash, IdempotencyStatus.Completed, response.status(), response.contentType(), response.body());
+        }
+        return Outcome.executed(response);
+    }
+
+    private Outcome replayOrWait(IdempotencyRecord record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            return Outcome.keyReused();
+        }
+
+        Instant deadline = clock.instant().plus(properties.getWaitTimeout());
+        Optional<IdempotencyRecord> current = Optional.of(record);
+        while (current.isPresent() && current.get().getStatus() != IdempotencyStatus.Completed) {
+            if (!clock.instant().isBefore(deadline)) {
+                return Outcome.inProgress();
+            }
+            try {
+                Thread.sleep(properties.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Outcome.inProgress();
+            }
+            current = repo.findById(record.getKeyHash());
+        }
+
+        // A key that disappeared was released after a server error and may be retried.
+        return current
+                .map(r -> Outcome.replayed(new StoredResponse(r.getResponseStatus(), r.getContentType(), r.getResponseBody())))
+                .orElseGet(Outcome::inProgress);
+    }
+
+    /**
+     * SHA-256 of the given parts, Base64url encoded to 43 characters.
+     */
+    public static String digest(String... parts) {
+        MessageDigest md = sha256();
+        for (String part : parts) {
+            md.update(part.getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(md.digest());
+    }
+
+    public static String digest(byte[] body) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256().digest(body));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<Outcome> future) {}
+
+    public record StoredResponse(int status, String contentType, byte[] body) {}
+
+    public record Outcome(Kind kind, StoredResponse response) {
+
+        public enum Kind {
+            Executed, Replayed, KeyReused, InProgress
+        }
+
+        static Outcome executed(StoredResponse response) {
+            return new Outcome(Kind.Executed, response);
+        }
+
+        static Outcome replayed(StoredResponse response) {
+            return new Outcome(Kind.Replayed, response);
+        }
+
+        static Outcome keyReused() {
+            return new Outcome(Kind.KeyReused, null);
+        }
+
+        static Outcome inProgress() {
+            return new Outcome(Kind.InProgress, null);
+        }
+    }
+}
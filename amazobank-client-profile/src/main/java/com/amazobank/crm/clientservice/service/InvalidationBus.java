@@ -0,0 +1,96 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.amazobank.crm.clientservice.config.InvalidationProperties;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Tells every task when an entity changed, so each can drop its cached copy.
+ *
+ * Writes are buffered and sent every flush interval. Several writes to the same entity within one
+ * interval are sent as a single event carrying the highest version.
+ */
+@Component
+public class InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final InvalidationTransport transport;
+    private final Map<String, EntityChanged> pending = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<EntityChanged>>> listeners = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public InvalidationBus(InvalidationTransport transport, InvalidationProperties properties) {
+        this.transport = transport;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        transport.subscribe(this::deliver);
+    }
+
+    public void publish(String type, Object id, Long version) {
+        EntityChanged event = new EntityChanged(type, id.toString(), version == null ? 0 : version);
+        pending.merge(type + "/" + event.id(), event, (a, b) -> a.version() >= b.version() ? a : b);
+    }
+
+    public void subscribe(String type, Consumer<EntityChanged> listener) {
+        listeners.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @PreDestroy
+    public void close() {
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * Send everything buffered so far.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<EntityChanged> batch = new ArrayList<>();
+        for (String key : pending.keySet()) {
+            EntityChanged event = pending.remove(key);
+            if (event != null) {
+                batch.add(event);
+            }
+        }
+        try {
+            transport.publish(batch);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} invalidation events: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void deliver(List<EntityChanged> events) {
+        for (EntityChanged event : events) {
+            for (Consumer<EntityChanged> listener : listeners.getOrDefault(event.type(), List.of())) {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    log.warn("Invalidation listener failed for {} {}: {}", event.type(), event.id(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Shares events between tasks through the InvalidationEvents table, which every task polls.
+ *
+ * Rows are read with an overlap window so an insert that commits late is still seen; events already
+ * delivered are skipped by ID. Events published by this task are not delivered back to it. Old rows
+ * are deleted by the invalidationEvents purge job.
+ */
+public class JdbcInvalidationTransport implements InvalidationTransport, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcInvalidationTransport.class);
+    private static final Duration OVERLAP = Duration.ofSeconds(5);
+
+    private final JdbcTemplate jdbc;
+    private final String origin = UUID.randomUUID().toString();
+    private final List<Consumer<List<EntityChanged>>> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService poller;
+    private final Map<Long, Instant> seen = new HashMap<>();
+
+    private Instant readFrom;
+
+    public JdbcInvalidationTransport(JdbcTemplate jdbc, Duration pollInterval) {
+        this.jdbc = jdbc;
+        this.readFrom = jdbc.queryForObject("SELECT CURRENT_TIMESTAMP(6)", Timestamp.class).toInstant();
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(List<EntityChanged> events) {
+        jdbc.batchUpdate(
+                "INSERT INTO InvalidationEvents (EntityType, EntityID, Version, Origin, CreatedAt) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP(6))",
+                events, events.size(), (ps, event) -> {
+                    ps.setString(1, event.type());
+                    ps.setString(2, event.id());
+                    ps.setLong(3, event.version());
+                    ps.setString(4, origin);
+                });
+    }
+
+    @Override
+    public void subscribe(Consumer<List<EntityChanged>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    private void poll() {
+        try {
+            List<EntityChanged> events = new ArrayList<>();
+            Instant[] newest = { readFrom };
+            jdbc.query(
+                    "SELECT Id, EntityType, EntityID, Version, Origin, CreatedAt FROM InvalidationEvents WHERE CreatedAt >= ? ORDER BY Id",
+                    rs -> {
+                        Instant createdAt = rs.getTimestamp("CreatedAt").toInstant();
+                        if (createdAt.isAfter(newest[0])) {
+                            newest[0] = createdAt;
+                        }
+                        if (seen.putIfAbsent(rs.getLong("Id"), createdAt) == null && !origin.equals(rs.getString("Origin"))) {
+                            events.add(new EntityChanged(rs.getString("EntityType"), rs.getString("EntityID"), rs.getLong("Version")));
+                        }
+                    },
+                    Timestamp.from(readFrom.minus(OVERLAP)));
+
+            readFrom = newest[0];
+            Instant forgetBefore = readFrom.minus(OVERLAP);
+            seen.values().removeIf(createdAt -> createdAt.isBefore(forgetBefore));
+
+            if (!events.isEmpty()) {
+                subscribers.forEach(subscriber -> subscriber.accept(events));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll invalidation events: {}", e.getMessage());
+        }
+    }
+}
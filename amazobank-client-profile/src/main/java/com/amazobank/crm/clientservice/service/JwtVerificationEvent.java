@@ -0,0 +1,21 @@
+package com.amazobank.crm.clientservice.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("amazobank.JwtVerification")
+@Label("JWT Verification")
+@Description("Resolving a bearer token, either from the verified token cache or by checking its signature")
+@Category({"Amazobank", "Security"})
+@StackTrace(false)
+public class JwtVerificationEvent extends jdk.jfr.Event {
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Authenticated")
+    public boolean authenticated;
+}
@@ -0,0 +1,25 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes audit events as one key=value line each to the "audit" logger. logback-spring.xml gives that
+ * logger its own synchronous appender, so audit lines never pass through the ASYNC queue that drops
+ * under load.
+ */
+public class LogAuditSink implements AuditSink {
+
+    private static final Logger audit = LoggerFactory.getLogger("audit");
+
+    @Override
+    public void write(List<AuditEvent> events) {
+        for (AuditEvent event : events) {
+            audit.info("at={} action={} entityType={} entityId={} agentId={} detail={}",
+                    event.occurredAt(), event.action(), event.entityType(), event.entityId(), event.agentId(),
+                    event.detail() == null ? "" : event.detail());
+        }
+    }
+}
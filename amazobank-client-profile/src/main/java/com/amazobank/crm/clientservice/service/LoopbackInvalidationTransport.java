@@ -0,0 +1,23 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers events to subscribers in the same JVM. Used for tests and single-task deployments.
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<List<EntityChanged>>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<EntityChanged> events) {
+        subscribers.forEach(subscriber -> subscriber.accept(events));
+    }
+
+    @Override
+    public void subscribe(Consumer<List<EntityChanged>> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,46 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * One kind of expired row for the {@link PurgeEngine} to delete.
+ *
+ * @param name          unique name, used for the checkpoint and the metrics
+ * @param table         table to delete from
+ * @param key           primary key column; chunks are taken in its order
+ * @param keyType       how the key is read and stored in the checkpoint
+ * @param condition     SQL condition that expired rows match
+ * @param arguments     the condition's arguments, evaluated at the start of every run
+ * @param beforeDelete  called with each chunk's keys before the rows are deleted, e.g. to delete what they point to
+ */
+public record PurgeJob(String name, String table, String key, KeyType keyType, String condition,
+        Supplier<Object[]> arguments, Consumer<List<Object>> beforeDelete) {
+
+    public PurgeJob(String name, String table, String key, KeyType keyType, String condition, Supplier<Object[]> arguments) {
+        this(name, table, key, keyType, condition, arguments, keys -> {});
+    }
+
+    public enum KeyType {
+        Number,
+        Text,
+        Binary;
+
+        String encode(Object key) {
+            return switch (this) {
+                case Number, Text -> key.toString();
+                case Binary -> HexFormat.of().formatHex((byte[]) key);
+            };
+        }
+
+        Object decode(String key) {
+            return switch (this) {
+                case Number -> Long.valueOf(key);
+                case Text -> key;
+                case Binary -> HexFormat.of().parseHex(key);
+            };
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.util.Locale;
+
+/**
+ * Time spent in each backend phase of the current request, kept in a thread local by the Server-Timing filter.
+ *
+ * Code on the request thread reports into it with {@link #record}; outside a request, or on other threads,
+ * the calls do nothing. Serialization is tracked as begin/end because the header is written as soon as the
+ * first body byte is, and an unfinished serialization is closed off at that point.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        Auth("auth", "JWT verification"),
+        Db("db", "JDBC statements"),
+        Batch("batch", "Batched lookups"),
+        Sqs("sqs", "SQS publish"),
+        Upstream("upstream", "Account service calls"),
+        Ser("ser", "JSON serialization");
+
+        private final String metric;
+        private final String description;
+
+        Phase(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] counts = new int[Phase.values().length];
+    private long serializationStart;
+
+    private RequestTimings() {}
+
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Add the time since {@code startNanos} to the given phase of the current request.
+     */
+    public static void record(Phase phase, long startNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos[phase.ordinal()] += System.nanoTime() - startNanos;
+            timings.counts[phase.ordinal()]++;
+        }
+    }
+
+    public static void beginSerialization() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.serializationStart == 0) {
+            timings.serializationStart = System.nanoTime();
+        }
+    }
+
+    public static void endSerialization() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.closeSerialization();
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * The Server-Timing header value, e.g. {@code db;desc="JDBC statements (3)";dur=4.21, total;dur=9.87}.
+     */
+    public String header() {
+        closeSerialization();
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(phase.metric).append(";desc=\"").append(phase.description);
+            if (count > 1) {
+                header.append(" (").append(count).append(')');
+            }
+            header.append("\";dur=").append(millis(nanos[phase.ordinal()])).append(", ");
+        }
+        return header.append("total;dur=").append(millis(elapsedNanos())).toString();
+    }
+
+    /**
+     * The same figures as key=value pairs for the access log.
+     */
+    public String fields() {
+        closeSerialization();
+        StringBuilder fields = new StringBuilder(96);
+        for (Phase phase : Phase.values()) {
+            int count = counts[phase.ordinal()];
+            if (count > 0) {
+                fields.append(' ').append(phase.metric).append("Count=").append(count)
+                        .append(' ').append(phase.metric).append("Ms=").append(millis(nanos[phase.ordinal()]));
+            }
+        }
+        return fields.toString();
+    }
+
+    private void closeSerialization() {
+        if (serializationStart != 0) {
+            nanos[Phase.Ser.ordinal()] += System.nanoTime() - serializationStart;
+            counts[Phase.Ser.ordinal()]++;
+            serializationStart = 0;
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.amazobank.crm.clientservice.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Lets concurrent callers asking for the same key share a single database read.
+ *
+ * The first caller runs the loader; callers that arrive while it is running wait for its result
+ * instead of issuing their own query. Nothing is kept once the read finishes, so a later call always
+ * goes back to the database. Every caller, the first included, receives its own copy, because
+ * entities may be modified by the request that receives them; the copy must not share mutable or
+ * lazily loaded state with the loaded value.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Function<V, V> copy;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry, Function<V, V> copy) {
+        this.copy = copy;
+        this.coalesced = Counter.builder("repository.reads.coalesced")
+                .description("Database reads avoided by sharing an identical in-flight read")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = calls.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return copy.apply(await(existing));
+        }
+
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return copy.apply(value);
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, mine);
+        }
+    }
+
+    /**
+     * Stop new callers from joining a read that started before a write to the same key.
+     */
+    public void forget(K key) {
+        calls.remove(key);
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
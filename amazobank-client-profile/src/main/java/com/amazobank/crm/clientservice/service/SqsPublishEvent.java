@@ -0,0 +1,23 @@
+package com.amazobank.crm.clientservice.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("amazobank.SqsPublish")
+@Label("SQS Publish")
+@Description("A message sent to an SQS queue")
+@Category({"Amazobank", "Messaging"})
+@StackTrace(false)
+public class SqsPublishEvent extends jdk.jfr.Event {
+
+    @Label("Queue")
+    public String queue;
+
+    @Label("Message Size")
+    @DataAmount
+    public long messageSize;
+}
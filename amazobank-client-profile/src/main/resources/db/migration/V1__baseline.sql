@@ -0,0 +1,75 @@
+-- Baseline of the tables this service reads and writes. Every statement is IF NOT EXISTS, so on a database
+-- that predates migrations this only creates the tables that are missing; Flyway baselines such databases
+-- at version 0. Tables that already exist keep their columns as they are; V1_1 adds the Version column to
+-- a Client table that predates it.
+
+CREATE TABLE IF NOT EXISTS Client (
+    ClientID VARCHAR(36) NOT NULL,
+    AgentID VARCHAR(36) NOT NULL,
+    FirstName VARCHAR(50) NOT NULL,
+    LastName VARCHAR(50) NOT NULL,
+    DateOfBirth DATE NOT NULL,
+    Gender VARCHAR(20) NOT NULL,
+    Email VARCHAR(100) NOT NULL,
+    PhoneNumber VARCHAR(20) NOT NULL,
+    Address VARCHAR(100) NOT NULL,
+    City VARCHAR(50) NOT NULL,
+    State VARCHAR(50) NOT NULL,
+    Country VARCHAR(50) NOT NULL,
+    PostalCode VARCHAR(10) NOT NULL,
+    VerificationStatus VARCHAR(10) NOT NULL,
+    ClientStatus VARCHAR(10) NOT NULL,
+    Version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (ClientID),
+    UNIQUE INDEX UkClientEmail (Email),
+    UNIQUE INDEX UkClientPhoneNumber (PhoneNumber)
+);
+
+CREATE TABLE IF NOT EXISTS IdempotencyKeys (
+    KeyHash VARCHAR(43) NOT NULL,
+    RequestHash VARCHAR(43) NOT NULL,
+    Status VARCHAR(12) NOT NULL,
+    ResponseStatus INT NULL,
+    ContentType VARCHAR(100) NULL,
+    ResponseBody MEDIUMBLOB NULL,
+    CreatedAt DATETIME(6) NOT NULL,
+    ExpiresAt DATETIME(6) NOT NULL,
+    PRIMARY KEY (KeyHash),
+    INDEX IdxIdempotencyKeysExpiresAt (ExpiresAt)
+);
+
+CREATE TABLE IF NOT EXISTS InvalidationEvents (
+    Id BIGINT NOT NULL AUTO_INCREMENT,
+    EntityType VARCHAR(32) NOT NULL,
+    EntityID VARCHAR(36) NOT NULL,
+    Version BIGINT NOT NULL,
+    Origin VARCHAR(36) NOT NULL,
+    CreatedAt DATETIME(6) NOT NULL,
+    PRIMARY KEY (Id),
+    INDEX IdxInvalidationEventsCreatedAt (CreatedAt)
+);
+
+CREATE TABLE IF NOT EXISTS ClientDirectory (
+    ClientID VARCHAR(36) NOT NULL,
+    AgentID VARCHAR(36) NOT NULL,
+    Email VARCHAR(100) NOT NULL,
+    ClientStatus VARCHAR(10) NOT NULL,
+    Version BIGINT NOT NULL,
+    UpdatedAt DATETIME(6) NOT NULL,
+    PRIMARY KEY (ClientID),
+    INDEX IdxClientDirectoryUpdatedAt (UpdatedAt)
+);
+
+CREATE TABLE IF NOT EXISTS AuditEvents (
+    Id BIGINT NOT NULL AUTO_INCREMENT,
+    OccurredAt DATETIME(6) NOT NULL,
+    Source VARCHAR(32) NOT NULL,
+    Action VARCHAR(16) NOT NULL,
+    EntityType VARCHAR(32) NOT NULL,
+    EntityID VARCHAR(36) NOT NULL,
+    AgentID VARCHAR(36) NOT NULL,
+    Detail VARCHAR(255) NULL,
+    PRIMARY KEY (Id),
+    INDEX IdxAuditEventsEntity (EntityType, EntityID),
+    INDEX IdxAuditEventsOccurredAt (OccurredAt)
+);
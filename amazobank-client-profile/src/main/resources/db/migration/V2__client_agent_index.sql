@@ -0,0 +1,2 @@
+-- findByAgentId lists an agent's clients.
+CREATE INDEX IdxClientAgentId ON Client (AgentID);
@@ -0,0 +1,18 @@
+-- Status columns move from their enum names to the TINYINT codes declared on each enum
+-- (VerificationStatus, ClientStatus). Each column is copied, dropped and renamed.
+--   VerificationStatus: 1 Verified, 2 Unverified
+--   ClientStatus:       1 Active, 2 Deleted
+
+ALTER TABLE Client ADD COLUMN VerificationStatusCode TINYINT NULL;
+UPDATE Client SET VerificationStatusCode = CASE VerificationStatus
+    WHEN 'Verified' THEN 1 WHEN 'Unverified' THEN 2 END;
+ALTER TABLE Client DROP COLUMN VerificationStatus;
+ALTER TABLE Client RENAME COLUMN VerificationStatusCode TO VerificationStatus;
+ALTER TABLE Client MODIFY COLUMN VerificationStatus TINYINT NOT NULL;
+
+ALTER TABLE Client ADD COLUMN ClientStatusCode TINYINT NULL;
+UPDATE Client SET ClientStatusCode = CASE ClientStatus
+    WHEN 'Active' THEN 1 WHEN 'Deleted' THEN 2 END;
+ALTER TABLE Client DROP COLUMN ClientStatus;
+ALTER TABLE Client RENAME COLUMN ClientStatusCode TO ClientStatus;
+ALTER TABLE Client MODIFY COLUMN ClientStatus TINYINT NOT NULL;
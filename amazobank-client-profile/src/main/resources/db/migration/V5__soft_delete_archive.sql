@@ -0,0 +1,29 @@
+-- Clients deleted for longer than the grace period move to ClientsArchive, so Client and its indexes
+-- only hold live rows, and a deleted client's email and phone number become free again. DeletedAt
+-- records when a client was deleted; clients deleted before this migration start their grace period now.
+ALTER TABLE Client ADD COLUMN DeletedAt DATETIME(6) NULL;
+UPDATE Client SET DeletedAt = CURRENT_TIMESTAMP(6) WHERE ClientStatus = 2;
+CREATE INDEX IdxClientDeletedAt ON Client (DeletedAt);
+
+CREATE TABLE ClientsArchive (
+    ClientID BINARY(16) NOT NULL,
+    AgentID VARCHAR(36) NOT NULL,
+    FirstName VARCHAR(50) NOT NULL,
+    LastName VARCHAR(50) NOT NULL,
+    DateOfBirth DATE NOT NULL,
+    Gender VARCHAR(20) NOT NULL,
+    Email VARCHAR(100) NOT NULL,
+    PhoneNumber VARCHAR(20) NOT NULL,
+    Address VARCHAR(100) NOT NULL,
+    City VARCHAR(50) NOT NULL,
+    State VARCHAR(50) NOT NULL,
+    Country VARCHAR(50) NOT NULL,
+    PostalCode VARCHAR(10) NOT NULL,
+    VerificationStatus TINYINT NOT NULL,
+    ClientStatus TINYINT NOT NULL,
+    Version BIGINT NOT NULL,
+    DeletedAt DATETIME(6) NOT NULL,
+    ArchivedAt DATETIME(6) NOT NULL,
+    PRIMARY KEY (ClientID),
+    INDEX IdxClientsArchiveEmail (Email)
+);
@@ -0,0 +1,9 @@
+-- Where each purge job got to, so a job interrupted by its time limit or a restart resumes there.
+-- LastKey is NULL between passes. Both services create this table in the shared database; jobs over
+-- shared tables such as IdempotencyKeys share a checkpoint.
+CREATE TABLE IF NOT EXISTS PurgeCheckpoints (
+    JobName VARCHAR(64) NOT NULL,
+    LastKey VARCHAR(255) NULL,
+    UpdatedAt DATETIME(6) NOT NULL,
+    PRIMARY KEY (JobName)
+);
@@ -0,0 +1,25 @@
+-- Date of birth, gender and address move from Client to ClientDetails, which shares Client's primary key.
+-- Listing an agent's clients and the ownership and duplicate checks read only Client, which now packs
+-- several times more rows per page; the details are read by primary key when a full profile is returned.
+CREATE TABLE ClientDetails (
+    ClientID BINARY(16) NOT NULL,
+    DateOfBirth DATE NOT NULL,
+    Gender VARCHAR(20) NOT NULL,
+    Address VARCHAR(100) NOT NULL,
+    City VARCHAR(50) NOT NULL,
+    State VARCHAR(50) NOT NULL,
+    Country VARCHAR(50) NOT NULL,
+    PostalCode VARCHAR(10) NOT NULL,
+    PRIMARY KEY (ClientID)
+);
+
+INSERT INTO ClientDetails (ClientID, DateOfBirth, Gender, Address, City, State, Country, PostalCode)
+SELECT ClientID, DateOfBirth, Gender, Address, City, State, Country, PostalCode FROM Client;
+
+ALTER TABLE Client DROP COLUMN DateOfBirth;
+ALTER TABLE Client DROP COLUMN Gender;
+ALTER TABLE Client DROP COLUMN Address;
+ALTER TABLE Client DROP COLUMN City;
+ALTER TABLE Client DROP COLUMN State;
+ALTER TABLE Client DROP COLUMN Country;
+ALTER TABLE Client DROP COLUMN PostalCode;
@@ -29,19 +29,25 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.amazobank.crm.clientservice.api.ClientController;
+import com.amazobank.crm.clientservice.api.JsonCache;
+import com.amazobank.crm.clientservice.api.dto.ClientSummaryDto;
 import com.amazobank.crm.clientservice.api.dto.CreateClientRequest;
 import com.amazobank.crm.clientservice.api.dto.UpdateClientRequest;
 import com.amazobank.crm.clientservice.domain.Client;
+import com.amazobank.crm.clientservice.domain.ClientDetails;
 import com.amazobank.crm.clientservice.domain.ClientStatus;
 import com.amazobank.crm.clientservice.domain.Gender;
+import com.amazobank.crm.clientservice.domain.VerificationStatus;
 import com.amazobank.crm.clientservice.security.SecurityConfig;
+import com.amazobank.crm.clientservice.service.AuditLog;
+import com.amazobank.crm.clientservice.service.ClientOverviewService;
 import com.amazobank.crm.clientservice.service.ClientService;
 import com.amazobank.crm.clientservice.service.SqsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(ClientController.class)
 @AutoConfigureMockMvc
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, JsonCache.class})
 public class ClientControllerTest {
 
         @Autowired
@@ -56,6 +62,12 @@ public class ClientControllerTest {
         @MockitoBean
         private JwtDecoder jwtDecoder;
 
+        @MockitoBean
+        private ClientOverviewService overviewService;
+
+        @MockitoBean
+        private AuditLog auditLog;
+
         @BeforeEach
         void stubEmailNotifications() {
                 Mockito.doNothing()
@@ -82,30 +94,21 @@ public class ClientControllerTest {
                 UUID clientId = UUID.randomUUID();
                 UUID agentId = UUID.fromString("a1b2c3d4-5678-90ab-cdef-111111111111");
 
-                Client client = Client.builder()
-                                .clientId(clientId)
-                                .agentId(agentId) // Client belongs to this agent
-                                .firstName("John")
-                                .lastName("Smith")
-                                .dateOfBirth(LocalDate.of(1985, 3, 15))
-                                .gender(Gender.Male)
-                                .email("john.smith@example.com")
-                                .phoneNumber("+1-555-0101")
-                                .address("123 Main Street")
-                                .city("New York")
-                                .state("NY")
-                                .country("USA")
-                                .postalCode("10001")
-                                .build();
+                ClientSummaryDto client = new ClientSummaryDto(clientId, agentId, "John", "Smith",
+                                "john.smith@example.com", "+1-555-0101", VerificationStatus.Verified,
+                                ClientStatus.Active);
 
                 when(service.findByAgentId(agentId)).thenReturn(List.of(client));
 
-                // Act & Assert
+                // Act & Assert: list entries carry the Clients row only; the edit dialog loads the full profile.
                 mockMvc.perform(get("/api/clients"))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$[0].clientId").value(clientId.toString()))
                                 .andExpect(jsonPath("$[0].firstName").value("John"))
-                                .andExpect(jsonPath("$[0].agentId").value(agentId.toString()));
+                                .andExpect(jsonPath("$[0].agentId").value(agentId.toString()))
+                                .andExpect(jsonPath("$[0].clientStatus").value("Active"))
+                                .andExpect(jsonPath("$[0].dateOfBirth").doesNotExist())
+                                .andExpect(jsonPath("$[0].address").doesNotExist());
 
                 verify(service).findByAgentId(agentId);
         }
@@ -122,18 +125,20 @@ public class ClientControllerTest {
                                 .agentId(ownerAgentId) // Belongs to different agent
                                 .firstName("John")
                                 .lastName("Smith")
-                                .dateOfBirth(LocalDate.of(1985, 3, 15))
-                                .gender(Gender.Male)
                                 .email("john.smith@example.com")
                                 .phoneNumber("+1-555-0101")
-                                .address("123 Main Street")
-                                .city("New York")
-                                .state("NY")
-                                .country("USA")
-                                .postalCode("10001")
+                                .details(ClientDetails.builder()
+                                        .dateOfBirth(LocalDate.of(1985, 3, 15))
+                                        .gender(Gender.Male)
+                                        .address("123 Main Street")
+                                        .city("New York")
+                                        .state("NY")
+                                        .country("USA")
+                                        .postalCode("10001")
+                                        .build())
                                 .build();
 
-                when(service.findById(clientId)).thenReturn(Optional.of(client));
+                when(service.findDetailedById(clientId)).thenReturn(Optional.of(client));
 
                 // Act & Assert
                 mockMvc.perform(get("/api/clients/{id}", clientId))
@@ -148,13 +153,13 @@ public class ClientControllerTest {
                 // Arrange
                 UUID clientId = UUID.randomUUID();
 
-                when(service.findById(clientId)).thenReturn(Optional.empty());
+                when(service.findDetailedById(clientId)).thenReturn(Optional.empty());
 
                 // Act & Assert
                 mockMvc.perform(get("/api/clients/{id}", clientId))
                                 .andExpect(status().isNotFound());
 
-                verify(service).findById(clientId);
+                verify(service).findDetailedById(clientId);
         }
 
         @Test
@@ -319,9 +324,11 @@ public class ClientControllerTest {
                                 .agentId(agentId)
                                 .firstName("John")
                                 .lastName("Smith")
-                                .gender(Gender.Male)
                                 .email("john.smith@example.com")
                                 .phoneNumber("+1555010101")
+                                .details(ClientDetails.builder()
+                                        .gender(Gender.Male)
+                                        .build())
                                 .build();
 
                                                 // Existing client in DB
@@ -330,9 +337,11 @@ public class ClientControllerTest {
                                 .agentId(agentId)
                                 .firstName("John")
                                 .lastName("Smith")
-                                .gender(Gender.Male)
                                 .email("jane.doe@example.com")
                                 .phoneNumber("+1555010101")
+                                .details(ClientDetails.builder()
+                                        .gender(Gender.Male)
+                                        .build())
                                 .build();
 
                 // Update request
@@ -349,7 +358,7 @@ public class ClientControllerTest {
                                 null,
                                 null,
                                 null);
-                when(service.findById(clientId)).thenReturn(Optional.of(existing));
+                when(service.findDetailedById(clientId)).thenReturn(Optional.of(existing));
                 when(service.findByEmail(req.email())).thenReturn(Optional.empty());
                 when(service.findByPhoneNumber(req.phoneNumber())).thenReturn(Optional.empty());
                 when(service.update(existing)).thenReturn(updated);
@@ -378,7 +387,7 @@ public class ClientControllerTest {
                                 "Female", "jane.doe@example.com", "+1555010202",
                                 "123 New St", "Boston", "MA", "USA", "02101", null);
 
-                when(service.findById(clientId)).thenReturn(Optional.empty());
+                when(service.findDetailedById(clientId)).thenReturn(Optional.empty());
 
                 ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
                 String json = mapper.writeValueAsString(req);
@@ -410,7 +419,7 @@ public class ClientControllerTest {
                                 "Female", "jane.doe@example.com", "+1555010202",
                                 "123 New St", "Boston", "MA", "USA", "02101", null);
 
-                when(service.findById(clientId)).thenReturn(Optional.of(existing));
+                when(service.findDetailedById(clientId)).thenReturn(Optional.of(existing));
 
                 ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
                 String json = mapper.writeValueAsString(req);
@@ -449,7 +458,7 @@ public class ClientControllerTest {
                                 .phoneNumber("+1555099999")
                                 .build();
 
-                when(service.findById(clientId)).thenReturn(Optional.of(existing));
+                when(service.findDetailedById(clientId)).thenReturn(Optional.of(existing));
                 when(service.findByEmail(req.email())).thenReturn(Optional.of(other));
 
                 ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
@@ -489,7 +498,7 @@ public class ClientControllerTest {
                                 .phoneNumber("+1555099999")
                                 .build();
 
-                when(service.findById(clientId)).thenReturn(Optional.of(existing));
+                when(service.findDetailedById(clientId)).thenReturn(Optional.of(existing));
                 when(service.findByEmail(req.email())).thenReturn(Optional.empty());
                 when(service.findByPhoneNumber(req.phoneNumber())).thenReturn(Optional.of(other));
 
@@ -516,8 +525,10 @@ public class ClientControllerTest {
                                 .lastName("Smith")
                                 .email("john.smith@example.com")
                                 .phoneNumber("+1555010101")
-                                .address("Old St")
-                                .gender(Gender.Male)
+                                .details(ClientDetails.builder()
+                                        .address("Old St")
+                                        .gender(Gender.Male)
+                                        .build())
                                 .build();
 
                 Client updated = Client.builder()
@@ -527,8 +538,10 @@ public class ClientControllerTest {
                                 .lastName("Smith")
                                 .email("john.smith@example.com")
                                 .phoneNumber("+1555010101")
-                                .address("123 New St")
-                                .gender(Gender.Male)
+                                .details(ClientDetails.builder()
+                                        .address("123 New St")
+                                        .gender(Gender.Male)
+                                        .build())
                                 .build();
 
                 // Only updating firstName and address
@@ -543,7 +556,7 @@ public class ClientControllerTest {
                                 null, null, null, null,
                                 null);
 
-                when(service.findById(clientId)).thenReturn(Optional.of(existing));
+                when(service.findDetailedById(clientId)).thenReturn(Optional.of(existing));
                 when(service.findByEmail(any())).thenReturn(Optional.empty());
                 when(service.findByPhoneNumber(any())).thenReturn(Optional.empty());
                 when(service.update(existing)).thenReturn(updated);
@@ -582,7 +595,7 @@ public class ClientControllerTest {
                                 "Female", "jane.doe@example.com", "+1555010202",
                                 "123 New St", "Boston", "MA", "USA", "02101", null);
 
-                when(service.findById(clientId)).thenReturn(Optional.of(existing));
+                when(service.findDetailedById(clientId)).thenReturn(Optional.of(existing));
 
                 ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
                 String json = mapper.writeValueAsString(req);
@@ -0,0 +1,90 @@
+package com.amazobank.crm.clientservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.amazobank.crm.clientservice.domain.Client;
+import com.amazobank.crm.clientservice.domain.ClientStatus;
+import com.amazobank.crm.clientservice.security.PreloadedJwkSource;
+import com.amazobank.crm.clientservice.service.ClientDirectoryWriter;
+import com.amazobank.crm.clientservice.service.SqsService;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:directory;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "account-service.base-url=http://localhost:1"
+})
+class ClientDirectoryWriterTest {
+
+    private static final UUID AGENT_ID = UUID.fromString("a1b2c3d4-5678-90ab-cdef-111111111111");
+
+    @Autowired
+    private ClientDirectoryWriter writer;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    @Test
+    void write_whenAnOlderVersionArrivesLate_shouldKeepTheNewerRow() {
+        UUID clientId = UUID.randomUUID();
+        writer.write(client(clientId, "new@example.com", ClientStatus.Deleted, 2L));
+
+        writer.write(client(clientId, "old@example.com", ClientStatus.Active, 1L));
+
+        Map<String, Object> row = row(clientId);
+        assertEquals("new@example.com", row.get("EMAIL"));
+        assertEquals("Deleted", row.get("CLIENTSTATUS"));
+        assertEquals(2L, row.get("VERSION"));
+    }
+
+    @Test
+    void write_whenANewerVersionArrives_shouldReplaceTheRow() {
+        UUID clientId = UUID.randomUUID();
+        writer.write(client(clientId, "old@example.com", ClientStatus.Active, 1L));
+
+        writer.write(client(clientId, "new@example.com", ClientStatus.Deleted, 2L));
+
+        Map<String, Object> row = row(clientId);
+        assertEquals("new@example.com", row.get("EMAIL"));
+        assertEquals("Deleted", row.get("CLIENTSTATUS"));
+        assertEquals(2L, row.get("VERSION"));
+    }
+
+    private Map<String, Object> row(UUID clientId) {
+        return jdbc.queryForMap("SELECT Email, ClientStatus, Version FROM ClientDirectory WHERE ClientID = ?",
+                clientId.toString());
+    }
+
+    private static Client client(UUID clientId, String email, ClientStatus status, long version) {
+        return Client.builder()
+                .clientId(clientId)
+                .agentId(AGENT_ID)
+                .email(email)
+                .clientStatus(status)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.amazobank.crm.clientservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.amazobank.crm.clientservice.api.dto.ClientOverviewDto;
+import com.amazobank.crm.clientservice.config.AccountServiceProperties;
+import com.amazobank.crm.clientservice.service.AccountServiceClient;
+import com.amazobank.crm.clientservice.service.ClientOverviewService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+class ClientOverviewServiceTest {
+
+    private static final UUID CLIENT_ID = UUID.fromString("c0000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_CLIENT_ID = UUID.fromString("c0000000-0000-0000-0000-000000000002");
+
+    private final List<String> requested = new CopyOnWriteArrayList<>();
+    private volatile boolean ignoreClientFilter;
+    private HttpServer accountService;
+    private ClientOverviewService overviewService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        accountService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        accountService.setExecutor(Executors.newCachedThreadPool());
+        accountService.createContext("/api/accounts", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requested.add(path);
+            if (path.equals("/api/accounts")) {
+                // The agent also manages another client. Like the real endpoint, only a clientId narrows the list.
+                String query = ignoreClientFilter ? null : exchange.getRequestURI().getQuery();
+                boolean own = query == null || query.equals("clientId=" + CLIENT_ID);
+                boolean other = query == null || query.equals("clientId=" + OTHER_CLIENT_ID);
+                List<String> accounts = new ArrayList<>();
+                if (own) {
+                    accounts.add(account("acc-1", CLIENT_ID));
+                    accounts.add(account("acc-slow", CLIENT_ID));
+                }
+                if (other) {
+                    accounts.add(account("acc-other", OTHER_CLIENT_ID));
+                }
+                respond(exchange, "[" + String.join(",", accounts) + "]");
+            } else if (path.equals("/api/accounts/acc-1/transactions")) {
+                respond(exchange, "[{\"transactionId\":\"tx-1\"}]");
+            } else {
+                sleep(2_000);
+                respond(exchange, "[]");
+            }
+        });
+        accountService.start();
+
+        AccountServiceProperties properties = new AccountServiceProperties();
+        properties.setBaseUrl(URI.create("http://localhost:" + accountService.getAddress().getPort()));
+        properties.setCallTimeout(Duration.ofSeconds(5));
+        properties.setOverviewTimeout(Duration.ofMillis(500));
+        overviewService = new ClientOverviewService(
+                new AccountServiceClient(properties.getBaseUrl(), properties.getCallTimeout(), new ObjectMapper()),
+                properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountService.stop(0);
+    }
+
+    @Test
+    void complete_whenOneCallMissesDeadline_shouldReturnPartialResult() {
+        ClientOverviewDto overview = overviewService.start(CLIENT_ID, "token").complete(null);
+
+        assertEquals(2, overview.accounts().size());
+        assertTrue(overview.accounts().stream().allMatch(a -> a.path("clientId").asText().equals(CLIENT_ID.toString())));
+        assertFalse(requested.contains("/api/accounts/acc-other/transactions"));
+        assertEquals("tx-1", overview.transactions().get("acc-1").get(0).path("transactionId").asText());
+        assertFalse(overview.transactions().containsKey("acc-slow"));
+        assertEquals(List.of("transactions:acc-slow"), overview.unavailable());
+        assertTrue(overview.partial());
+    }
+
+    @Test
+    void complete_whenAccountServiceIgnoresClientFilter_shouldLeaveOutOtherClientsAccounts() {
+        ignoreClientFilter = true;
+
+        ClientOverviewDto overview = overviewService.start(CLIENT_ID, "token").complete(null);
+
+        assertEquals(List.of("acc-1", "acc-slow"), overview.accounts().stream().map(a -> a.path("accountId").asText()).toList());
+        assertFalse(overview.transactions().containsKey("acc-other"));
+        assertFalse(requested.contains("/api/accounts/acc-other/transactions"));
+    }
+
+    @Test
+    void complete_whenAccountServiceDown_shouldStillReturnClient() {
+        accountService.stop(0);
+
+        ClientOverviewDto overview = overviewService.start(CLIENT_ID, "token").complete(null);
+
+        assertEquals(List.of("accounts"), overview.unavailable());
+        assertTrue(overview.partial());
+    }
+
+    private static String account(String accountId, UUID clientId) {
+        return "{\"accountId\":\"" + accountId + "\",\"clientId\":\"" + clientId + "\"}";
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
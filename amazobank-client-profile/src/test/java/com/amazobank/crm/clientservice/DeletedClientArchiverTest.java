@@ -0,0 +1,167 @@
+package com.amazobank.crm.clientservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.amazobank.crm.clientservice.domain.ArchivedClient;
+import com.amazobank.crm.clientservice.domain.Client;
+import com.amazobank.crm.clientservice.domain.ClientDetails;
+import com.amazobank.crm.clientservice.domain.ClientStatus;
+import com.amazobank.crm.clientservice.domain.Gender;
+import com.amazobank.crm.clientservice.domain.VerificationStatus;
+import com.amazobank.crm.clientservice.repo.ArchivedClientRepository;
+import com.amazobank.crm.clientservice.repo.ClientRepository;
+import com.amazobank.crm.clientservice.security.PreloadedJwkSource;
+import com.amazobank.crm.clientservice.service.ClientService;
+import com.amazobank.crm.clientservice.service.DeletedClientArchiver;
+import com.amazobank.crm.clientservice.service.SqsService;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archive;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "account-service.base-url=http://localhost:1",
+    "soft-delete-archive.grace=P30D",
+    "soft-delete-archive.chunk-size=2"
+})
+class DeletedClientArchiverTest {
+
+    private static final UUID AGENT_ID = UUID.fromString("a1b2c3d4-5678-90ab-cdef-111111111111");
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ArchivedClientRepository archivedClientRepository;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private DeletedClientArchiver archiver;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbc;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    @BeforeEach
+    void clean() {
+        clientRepository.deleteAll();
+        archivedClientRepository.deleteAll();
+    }
+
+    @Test
+    void archive_shouldMoveBothHalvesOfClientsDeletedBeforeTheGracePeriod() {
+        Instant longAgo = Instant.now().minus(Duration.ofDays(60));
+        Client old1 = save(ClientStatus.Deleted, longAgo);
+        Client old2 = save(ClientStatus.Deleted, longAgo);
+        Client old3 = save(ClientStatus.Deleted, longAgo);
+        Client recent = save(ClientStatus.Deleted, Instant.now());
+        Client active = save(ClientStatus.Active, null);
+
+        // Three clients with a chunk size of two: the second chunk must be picked up too.
+        assertEquals(3, archiver.archive());
+
+        assertEquals(2, clientRepository.count());
+        assertTrue(clientRepository.existsById(recent.getClientId()));
+        assertTrue(clientRepository.existsById(active.getClientId()));
+        assertEquals(2, jdbc.queryForObject("SELECT COUNT(*) FROM ClientDetails", Integer.class));
+        ArchivedClient archived = archivedClientRepository.findById(old1.getClientId()).orElseThrow();
+        assertEquals(old1.getFirstName(), archived.getFirstName());
+        assertEquals(old1.getEmail(), archived.getEmail());
+        assertEquals(LocalDate.of(1985, 3, 15), archived.getDateOfBirth());
+        assertEquals(Gender.Female, archived.getGender());
+        assertEquals("New York", archived.getCity());
+        assertEquals("10001", archived.getPostalCode());
+        assertEquals(ClientStatus.Deleted, archived.getClientStatus());
+        assertNotNull(archived.getArchivedAt());
+        assertTrue(archivedClientRepository.existsById(old2.getClientId()));
+        assertTrue(archivedClientRepository.existsById(old3.getClientId()));
+        assertTrue(clientService.findById(old1.getClientId()).isEmpty());
+    }
+
+    @Test
+    void archive_whenClientRestoredAfterItWasPicked_shouldLeaveItInPlace() {
+        Instant longAgo = Instant.now().minus(Duration.ofDays(60));
+        Client restored = save(ClientStatus.Deleted, longAgo);
+        Client deleted = save(ClientStatus.Deleted, longAgo);
+        AtomicBoolean picked = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Object ids = invocation.callRealMethod();
+            if (picked.compareAndSet(false, true)) {
+                Client client = clientRepository.findById(restored.getClientId()).orElseThrow();
+                client.setClientStatus(ClientStatus.Active);
+                clientService.save(client);
+            }
+            return ids;
+        }).when(jdbc).queryForList(anyString(), eq(byte[].class), any(Object[].class));
+
+        assertEquals(1, archiver.archive());
+
+        assertTrue(picked.get());
+        Client kept = clientRepository.findDetailedByClientId(restored.getClientId()).orElseThrow();
+        assertEquals(ClientStatus.Active, kept.getClientStatus());
+        assertEquals("New York", kept.getDetails().getCity());
+        assertTrue(archivedClientRepository.findById(restored.getClientId()).isEmpty());
+        assertTrue(archivedClientRepository.existsById(deleted.getClientId()));
+        assertTrue(clientRepository.findById(deleted.getClientId()).isEmpty());
+    }
+
+    private Client save(ClientStatus status, Instant deletedAt) {
+        int n = SEQUENCE.incrementAndGet();
+        Client client = Client.builder()
+                .agentId(AGENT_ID)
+                .firstName("Jane" + n)
+                .lastName("Doe")
+                .email("jane.doe" + n + "@example.com")
+                .phoneNumber("+1555" + String.format("%06d", n))
+                .verificationStatus(VerificationStatus.Verified)
+                .clientStatus(status)
+                .deletedAt(deletedAt)
+                .build();
+        client.setDetails(ClientDetails.builder()
+                .dateOfBirth(LocalDate.of(1985, 3, 15))
+                .gender(Gender.Female)
+                .address("123 Main Street")
+                .city("New York")
+                .state("NY")
+                .country("USA")
+                .postalCode("10001")
+                .build());
+        return clientRepository.save(client);
+    }
+}
@@ -0,0 +1,149 @@
+package com.amazobank.crm.clientservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.amazobank.crm.clientservice.domain.Client;
+import com.amazobank.crm.clientservice.domain.ClientStatus;
+import com.amazobank.crm.clientservice.domain.Gender;
+import com.amazobank.crm.clientservice.domain.VerificationStatus;
+import com.amazobank.crm.clientservice.repo.ClientRepository;
+import com.amazobank.crm.clientservice.security.PreloadedJwkSource;
+import com.amazobank.crm.clientservice.service.SqsService;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+/**
+ * Starts against a Client table as Hibernate created it from the entity before migrations, as the production
+ * database will be on its first deploy: Flyway baselines it, runs every migration, and the schema must then
+ * pass validation with the existing rows intact.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + LegacySchemaMigrationTest.URL,
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "account-service.base-url=http://localhost:1"
+})
+class LegacySchemaMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:legacy;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    static final UUID ACTIVE_ID = UUID.fromString("0b7e4f3a-9c1d-4e2b-8a6f-5d3c2b1a0f9e");
+    static final UUID DELETED_ID = UUID.fromString("1c8f5a4b-0d2e-4f3c-9b7a-6e4d3c2b1a0f");
+    static final String AGENT_ID = "a1b2c3d4-5678-90ab-cdef-111111111111";
+
+    static {
+        // The DDL Hibernate generated for the original Client entity.
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    create table Client (DateOfBirth date not null, AgentID varchar(255) not null,
+                        ClientID varchar(255) not null, Email varchar(100) not null, PhoneNumber varchar(20) not null,
+                        PostalCode varchar(10) not null, City varchar(50) not null, Country varchar(50) not null,
+                        FirstName varchar(50) not null, LastName varchar(50) not null, State varchar(50) not null,
+                        Address varchar(100) not null, Gender enum ('Male','Female') not null,
+                        ClientStatus enum ('Active','Deleted') not null,
+                        VerificationStatus enum ('Verified','Unverified') not null, primary key (ClientID))
+                    """);
+            statement.execute("alter table Client add constraint UKdbatggw0yd0wg0xisbo0yqnqm unique (Email)");
+            statement.execute("alter table Client add constraint UKnv6mbuh7s9eiju4r9jm31tvbo unique (PhoneNumber)");
+            insert(statement, ACTIVE_ID, "john.smith@example.com", "+15550101", "Active");
+            insert(statement, DELETED_ID, "jane.doe@example.com", "+15550102", "Deleted");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void insert(Statement statement, UUID clientId, String email, String phone, String status)
+            throws SQLException {
+        statement.execute("insert into Client values (DATE '1985-03-15', '" + AGENT_ID + "', '" + clientId + "', '"
+                + email + "', '" + phone + "', '10001', 'New York', 'USA', 'John', 'Smith', 'NY', '123 Main Street',"
+                + " 'Male', '" + status + "', 'Verified')");
+    }
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    @Test
+    void migrate_shouldKeepExistingRowsReadable() {
+        Client client = clientRepository.findDetailedByClientId(ACTIVE_ID).orElseThrow();
+        assertEquals(UUID.fromString(AGENT_ID), client.getAgentId());
+        assertEquals(ClientStatus.Active, client.getClientStatus());
+        assertEquals(VerificationStatus.Verified, client.getVerificationStatus());
+        assertEquals(0L, client.getVersion());
+        assertNull(client.getDeletedAt());
+        assertEquals(LocalDate.of(1985, 3, 15), client.getDetails().getDateOfBirth());
+        assertEquals(Gender.Male, client.getDetails().getGender());
+        assertEquals("123 Main Street", client.getDetails().getAddress());
+
+        Client deleted = clientRepository.findById(DELETED_ID).orElseThrow();
+        assertEquals(ClientStatus.Deleted, deleted.getClientStatus());
+        assertNotNull(deleted.getDeletedAt());
+    }
+
+    @Test
+    void migrate_shouldApplyEveryMigrationOverTheBaseline() {
+        MigrationInfo[] applied = flyway.info().applied();
+        assertEquals(MigrationState.BASELINE, applied[0].getState());
+        assertEquals("0", applied[0].getVersion().getVersion());
+        assertEquals("1.1", applied[2].getVersion().getVersion());
+        assertTrue(Arrays.stream(applied).allMatch(migration -> migration.getState().isApplied()));
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void startup_shouldBackfillClientDirectoryFromMigratedClients() {
+        Map<String, Object> row = jdbc.queryForMap(
+                "SELECT AgentID, Email, ClientStatus FROM ClientDirectory WHERE ClientID = ?", ACTIVE_ID.toString());
+        assertEquals(AGENT_ID, row.get("AgentID"));
+        assertEquals("john.smith@example.com", row.get("Email"));
+        assertEquals("Active", row.get("ClientStatus"));
+        assertEquals("Deleted", jdbc.queryForObject(
+                "SELECT ClientStatus FROM ClientDirectory WHERE ClientID = ?", String.class, DELETED_ID.toString()));
+        assertEquals(2, jdbc.queryForObject("SELECT COUNT(*) FROM ClientDirectory", Integer.class));
+    }
+
+    @Test
+    void save_shouldIncrementVersionOnMigratedRow() {
+        Client client = clientRepository.findById(ACTIVE_ID).orElseThrow();
+        client.setFirstName("Johnny");
+        assertEquals(1L, clientRepository.save(client).getVersion());
+    }
+}
@@ -0,0 +1,129 @@
+package com.amazobank.crm.clientservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.amazobank.crm.clientservice.config.PurgeProperties;
+import com.amazobank.crm.clientservice.service.PurgeEngine;
+import com.amazobank.crm.clientservice.service.PurgeJob;
+import com.amazobank.crm.clientservice.service.PurgeJob.KeyType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PurgeEngineTest {
+
+    private JdbcTemplate jdbc;
+    private PurgeProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Object> removed;
+    private PurgeJob job;
+    private PurgeEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:purge;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbc.execute("DROP TABLE IF EXISTS Events");
+        jdbc.execute("DROP TABLE IF EXISTS PurgeCheckpoints");
+        jdbc.execute("CREATE TABLE Events (Id BIGINT NOT NULL, Expired BOOLEAN NOT NULL, PRIMARY KEY (Id))");
+        jdbc.execute("CREATE TABLE PurgeCheckpoints (JobName VARCHAR(64) NOT NULL, LastKey VARCHAR(255) NULL,"
+                + " UpdatedAt DATETIME(6) NOT NULL, LeaseOwner VARCHAR(36) NULL, LeaseUntil DATETIME(6) NULL, PRIMARY KEY (JobName))");
+        for (long id = 1; id <= 30; id++) {
+            jdbc.update("INSERT INTO Events (Id, Expired) VALUES (?, ?)", id, id % 3 != 0);
+        }
+
+        properties = new PurgeProperties();
+        properties.setInterval(Duration.ofHours(1));
+        properties.setChunkSize(5);
+        properties.setMinChunkSize(2);
+        properties.setSleepRatio(0);
+        meterRegistry = new SimpleMeterRegistry();
+        removed = new ArrayList<>();
+        job = new PurgeJob("events", "Events", "Id", KeyType.Number, "Expired = ?", () -> new Object[] { true }, removed::addAll);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+    }
+
+    @Test
+    void purge_shouldDeleteOnlyMatchingRowsInChunks() throws Exception {
+        engine = new PurgeEngine(jdbc, List.of(job), properties, meterRegistry);
+
+        assertEquals(20, engine.purge(job));
+
+        assertEquals(10, jdbc.queryForObject("SELECT COUNT(*) FROM Events WHERE Expired = FALSE", Integer.class));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM Events WHERE Expired = TRUE", Integer.class));
+        assertEquals(20, removed.size());
+        assertEquals(20.0, meterRegistry.get("purge.rows.deleted").tag("job", "events").counter().count());
+        assertNull(jdbc.queryForObject("SELECT LastKey FROM PurgeCheckpoints WHERE JobName = 'events'", String.class));
+    }
+
+    @Test
+    void purge_whenStoppedByRunTime_shouldResumeFromCheckpointInANewEngine() throws Exception {
+        properties.setMaxRunTime(Duration.ZERO);
+        engine = new PurgeEngine(jdbc, List.of(job), properties, meterRegistry);
+
+        assertEquals(5, engine.purge(job));
+        assertEquals("7", jdbc.queryForObject("SELECT LastKey FROM PurgeCheckpoints WHERE JobName = 'events'", String.class));
+
+        // Rows before the checkpoint that expire now wait for the next pass.
+        jdbc.update("UPDATE Events SET Expired = TRUE WHERE Id = 3");
+        engine.close();
+        properties.setMaxRunTime(Duration.ofMinutes(1));
+        engine = new PurgeEngine(jdbc, List.of(job), properties, meterRegistry);
+
+        assertEquals(15, engine.purge(job));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM Events WHERE Expired = TRUE", Integer.class));
+        assertEquals(1, engine.purge(job));
+    }
+
+    @Test
+    void purge_whenChunksAreSlowerThanTarget_shouldShrinkTheChunkSize() throws Exception {
+        properties.setTargetLatency(Duration.ZERO);
+        engine = new PurgeEngine(jdbc, List.of(job), properties, meterRegistry);
+
+        assertEquals(20, engine.purge(job));
+
+        assertEquals(2.0, meterRegistry.get("purge.chunk.size").tag("job", "events").gauge().value());
+    }
+
+    @Test
+    void purge_whenAnotherTaskHoldsTheLease_shouldSkipTheJobUntilTheLeaseExpires() throws Exception {
+        engine = new PurgeEngine(jdbc, List.of(job), properties, meterRegistry);
+        jdbc.update("INSERT INTO PurgeCheckpoints (JobName, LastKey, UpdatedAt, LeaseOwner, LeaseUntil)"
+                + " VALUES ('events', NULL, CURRENT_TIMESTAMP(6), 'other-task', ?)", Timestamp.from(Instant.now().plusSeconds(60)));
+
+        assertEquals(0, engine.purge(job));
+        assertEquals(20, jdbc.queryForObject("SELECT COUNT(*) FROM Events WHERE Expired = TRUE", Integer.class));
+
+        jdbc.update("UPDATE PurgeCheckpoints SET LeaseUntil = ? WHERE JobName = 'events'", Timestamp.from(Instant.now().minusSeconds(1)));
+
+        assertEquals(20, engine.purge(job));
+        assertNull(jdbc.queryForObject("SELECT LeaseOwner FROM PurgeCheckpoints WHERE JobName = 'events'", String.class));
+    }
+
+    @Test
+    void purge_whenLeaseIsTakenOverMidRun_shouldStopWithoutOverwritingTheCheckpoint() throws Exception {
+        PurgeJob overtaken = new PurgeJob("events", "Events", "Id", KeyType.Number, "Expired = ?", () -> new Object[] { true },
+                keys -> jdbc.update("UPDATE PurgeCheckpoints SET LeaseOwner = 'other-task', LastKey = '3' WHERE JobName = 'events'"));
+        engine = new PurgeEngine(jdbc, List.of(overtaken), properties, meterRegistry);
+
+        assertEquals(5, engine.purge(overtaken));
+
+        assertEquals("other-task", jdbc.queryForObject("SELECT LeaseOwner FROM PurgeCheckpoints WHERE JobName = 'events'", String.class));
+        assertEquals("3", jdbc.queryForObject("SELECT LastKey FROM PurgeCheckpoints WHERE JobName = 'events'", String.class));
+    }
+}
@@ -0,0 +1,167 @@
+package com.amazobank.crm.clientservice;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.amazobank.crm.clientservice.domain.Client;
+import com.amazobank.crm.clientservice.domain.ClientDetails;
+import com.amazobank.crm.clientservice.domain.ClientStatus;
+import com.amazobank.crm.clientservice.domain.Gender;
+import com.amazobank.crm.clientservice.domain.VerificationStatus;
+import com.amazobank.crm.clientservice.repo.ClientRepository;
+import com.amazobank.crm.clientservice.security.PreloadedJwkSource;
+import com.amazobank.crm.clientservice.service.SqsService;
+
+import jakarta.persistence.EntityManagerFactory;
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+/**
+ * Query budgets for every controller endpoint, run against an in-memory database.
+ *
+ * The agent owns several clients, so a lazy load per row shows up as a blown budget.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:clients;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    // The schema comes from the Flyway migrations and is validated; H2 only matches DATETIME columns as plain timestamps.
+    "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "rate-limit.enabled=false",
+    // Nothing listens here, so the overview degrades to client-only without waiting.
+    "account-service.base-url=http://localhost:1"
+})
+@AutoConfigureMockMvc
+class QueryBudgetIntegrationTest {
+
+    private static final String AGENT_ID = "a1b2c3d4-5678-90ab-cdef-111111111111";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private SqsClient sqsClient;
+
+    @MockitoBean
+    private SqsService sqsService;
+
+    @MockitoBean
+    private PreloadedJwkSource jwkSource;
+
+    private QueryBudget budget;
+    private List<Client> clients;
+
+    @BeforeEach
+    void seed() {
+        clientRepository.deleteAll();
+
+        clients = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Client client = Client.builder()
+                    .agentId(UUID.fromString(AGENT_ID))
+                    .firstName("John")
+                    .lastName("Smith")
+                    .email("john.smith" + i + "@example.com")
+                    .phoneNumber("+155501010" + i)
+                    .verificationStatus(VerificationStatus.Unverified)
+                    .clientStatus(ClientStatus.Active)
+                    .build();
+            client.setDetails(ClientDetails.builder()
+                    .dateOfBirth(LocalDate.of(1990, 5, 15))
+                    .gender(Gender.Male)
+                    .address("123 Main St")
+                    .city("Springfield")
+                    .state("IL")
+                    .country("USA")
+                    .postalCode("62701")
+                    .build());
+            clients.add(clientRepository.save(client));
+        }
+        budget = new QueryBudget(entityManagerFactory);
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getAll() throws Exception {
+        // One query over the Clients row alone; the frontend loads GET /api/clients/{id} before editing.
+        budget.atMost(1, () -> mockMvc.perform(get("/api/clients")).andExpect(status().isOk())
+                .andExpect(jsonPath("$[2].email").value(clients.get(2).getEmail()))
+                .andExpect(jsonPath("$[2].city").doesNotExist()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getOne() throws Exception {
+        budget.atMost(1, () -> mockMvc.perform(get("/api/clients/{id}", clients.get(0).getClientId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void getOverview() throws Exception {
+        budget.atMost(1, () -> mockMvc.perform(get("/api/clients/{id}/overview", clients.get(0).getClientId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void create() throws Exception {
+        String body = """
+                {"firstName": "Alice", "lastName": "Doe", "dateOfBirth": "1992-03-04", "gender": "Female",
+                 "email": "alice.doe@example.com", "phoneNumber": "+15550109999", "address": "1 Elm St",
+                 "city": "Springfield", "state": "IL", "country": "USA", "postalCode": "62701"}
+                """;
+        // Two duplicate checks, then one insert each into Client and ClientDetails.
+        budget.atMost(4, () -> mockMvc.perform(post("/api/clients").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void verify() throws Exception {
+        budget.atMost(3, () -> mockMvc.perform(post("/api/clients/{id}/verify", clients.get(0).getClientId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void update() throws Exception {
+        budget.atMost(4, () -> mockMvc.perform(put("/api/clients/{id}", clients.get(0).getClientId())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"email\": \"john.updated@example.com\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @WithMockUser(username = AGENT_ID, roles = {"AGENT"})
+    void softDelete() throws Exception {
+        budget.atMost(3, () -> mockMvc.perform(delete("/api/clients/{id}", clients.get(0).getClientId()))
+                .andExpect(status().isOk()));
+    }
+}
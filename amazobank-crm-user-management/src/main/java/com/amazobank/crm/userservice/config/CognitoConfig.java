@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.observation.ObservationRegistry;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
 
@@ -17,10 +18,12 @@ public class CognitoConfig {
     private String issuerUri;
 
     @Bean
-    public CognitoIdentityProviderClient cognitoIdentityProviderClient() {
+    public CognitoIdentityProviderClient cognitoIdentityProviderClient(ObservationRegistry observationRegistry) {
         Region region = parseRegionFromIssuerUri(issuerUri);
         return CognitoIdentityProviderClient.builder()
                 .region(region)
+                .overrideConfiguration(config -> config.addExecutionInterceptor(
+                        new ObservationExecutionInterceptor(observationRegistry)))
                 .build();
     }
 
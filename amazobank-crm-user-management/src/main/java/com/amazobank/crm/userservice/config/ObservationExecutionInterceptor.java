@@ -0,0 +1,72 @@
+package com.amazobank.crm.userservice.config;
+
+import com.amazobank.crm.userservice.service.CognitoCallEvent;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * Records each AWS SDK call, such as "Cognito Identity Provider.AdminCreateUser", as an observation,
+ * so Cognito latency shows up as its own span under the controller method that made the call.
+ * Each call is also recorded as a {@link CognitoCallEvent} for JFR.
+ */
+public class ObservationExecutionInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Observation> OBSERVATION = new ExecutionAttribute<>("Observation");
+    private static final ExecutionAttribute<CognitoCallEvent> EVENT = new ExecutionAttribute<>("CognitoCallEvent");
+
+    private final ObservationRegistry observationRegistry;
+
+    public ObservationExecutionInterceptor(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes attributes) {
+        String service = attributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME);
+        String operation = attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        Observation observation = Observation.createNotStarted("aws.sdk.call", observationRegistry)
+                .contextualName(service + "." + operation)
+                .lowCardinalityKeyValue("rpc.service", service)
+                .lowCardinalityKeyValue("rpc.method", operation)
+                .start();
+        attributes.putAttribute(OBSERVATION, observation);
+
+        CognitoCallEvent event = new CognitoCallEvent();
+        event.operation = operation;
+        event.begin();
+        attributes.putAttribute(EVENT, event);
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes attributes) {
+        Observation observation = attributes.getAttribute(OBSERVATION);
+        if (observation != null) {
+            observation.stop();
+        }
+        commit(attributes, false);
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes attributes) {
+        Observation observation = attributes.getAttribute(OBSERVATION);
+        if (observation != null) {
+            observation.error(context.exception());
+            observation.stop();
+        }
+        commit(attributes, true);
+    }
+
+    private static void commit(ExecutionAttributes attributes, boolean failed) {
+        CognitoCallEvent event = attributes.getAttribute(EVENT);
+        if (event != null) {
+            event.failed = failed;
+            event.commit();
+        }
+    }
+}
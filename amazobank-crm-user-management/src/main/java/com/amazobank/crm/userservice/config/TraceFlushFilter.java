@@ -0,0 +1,43 @@
+package com.amazobank.crm.userservice.config;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Exports the finished spans before the response is returned.
+ *
+ * Lambda freezes the execution environment between invocations, so spans left in the batch processor
+ * would only be sent whenever the function happens to be invoked again.
+ */
+public class TraceFlushFilter extends OncePerRequestFilter {
+
+    private final ObjectProvider<SdkTracerProvider> tracerProvider;
+    private final long timeoutMillis;
+
+    public TraceFlushFilter(ObjectProvider<SdkTracerProvider> tracerProvider, long timeoutMillis) {
+        this.tracerProvider = tracerProvider;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SdkTracerProvider provider = tracerProvider.getIfAvailable();
+            if (provider != null) {
+                provider.forceFlush().join(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.amazobank.crm.userservice.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.amazobank.crm.userservice.api.HandlerObservationInterceptor;
+import com.amazobank.crm.userservice.repo.ObservedRepositoryInterceptor;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+
+/**
+ * Adds controller-method and repository spans to the HTTP server spans Spring Boot already records,
+ * and flushes them at the end of every invocation. Cognito calls are traced by the client in CognitoConfig.
+ */
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public TracingConfig(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerObservationInterceptor(observationRegistry));
+    }
+
+    @Bean
+    public FilterRegistrationBean<TraceFlushFilter> traceFlushFilter(ObjectProvider<SdkTracerProvider> tracerProvider,
+            @Value("${tracing.flush-timeout-millis:1000}") long timeoutMillis) {
+        FilterRegistrationBean<TraceFlushFilter> registration =
+                new FilterRegistrationBean<>(new TraceFlushFilter(tracerProvider, timeoutMillis));
+        // Outside the HTTP observation filter, so the server span has ended by the time we flush.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Repositories are built by their factory beans, so the advice has to be registered before those initialize.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxy, repository) -> proxy.addAdvice(0, new ObservedRepositoryInterceptor(
+                                    repository.getRepositoryInterface().getSimpleName(),
+                                    () -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.amazobank.crm.userservice.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Maps a {@link CodedEnum} to its TINYINT code and back.
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Byte> {
+
+    private final Class<E> type;
+    private final Map<Byte, E> byCode = new HashMap<>();
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+        for (E constant : type.getEnumConstants()) {
+            E previous = byCode.put(constant.code(), constant);
+            if (previous != null) {
+                throw new IllegalStateException(type.getSimpleName() + "." + previous + " and " + constant
+                        + " share code " + constant.code());
+            }
+        }
+    }
+
+    @Override
+    public Byte convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : attribute.code();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Byte dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        E constant = byCode.get(dbData);
+        if (constant == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code " + dbData);
+        }
+        return constant;
+    }
+}
@@ -1,9 +1,8 @@
 package com.amazobank.crm.userservice.domain;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
@@ -36,22 +35,34 @@ public class User {
     @Column(name = "Email", nullable = false, unique = true, length = 100)
     private String email;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "Role", nullable = false, length = 10)
+    @Convert(converter = Role.CodeConverter.class)
+    @Column(name = "Role", nullable = false)
     private Role role;
     
-    @Enumerated(EnumType.STRING)
-    @Column(name = "UserStatus", nullable = false, length = 10)
+    @Convert(converter = Status.CodeConverter.class)
+    @Column(name = "UserStatus", nullable = false)
     @Builder.Default
     private Status userStatus = Status.Active;
 
-    public enum Role {
+    public enum Role implements CodedEnum {
         // Order of role determines security level
         // SuperAdmin has highest permissions
         // Lower roles cannot delete/create higher roles
-        Agent,
-        Admin,
-        SuperAdmin;
+        Agent(1),
+        Admin(2),
+        SuperAdmin(3);
+
+        private final byte code;
+
+        Role(int code) {
+            this.code = (byte) code;
+        }
+
+        @Override
+        public byte code() {
+            return code;
+        }
+
         public static Role fromAuthority(String authority) {
             return switch (authority) {
                 case "ROLE_AGENT" -> Role.Agent;
@@ -59,6 +70,33 @@ public class User {
                 default -> Role.Admin;
             };
         }
+
+        public static class CodeConverter extends CodedEnumConverter<Role> {
+            public CodeConverter() {
+                super(Role.class);
+            }
+        }
+    }
+
+    public enum Status implements CodedEnum {
+        Active(1),
+        Disabled(2);
+
+        private final byte code;
+
+        Status(int code) {
+            this.code = (byte) code;
+        }
+
+        @Override
+        public byte code() {
+            return code;
+        }
+
+        public static class CodeConverter extends CodedEnumConverter<Status> {
+            public CodeConverter() {
+                super(Status.class);
+            }
+        }
     }
-    public enum Status { Active, Disabled }
 }
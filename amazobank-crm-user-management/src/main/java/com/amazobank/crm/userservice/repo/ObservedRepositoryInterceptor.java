@@ -0,0 +1,33 @@
+package com.amazobank.crm.userservice.repo;
+
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Wraps every call on a Spring Data repository in an observation named like "user-repository.find-by-email".
+ */
+public class ObservedRepositoryInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+    private final Supplier<ObservationRegistry> observationRegistry;
+
+    public ObservedRepositoryInterceptor(String repositoryName, Supplier<ObservationRegistry> observationRegistry) {
+        this.repositoryName = repositoryName;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        return Observation.createNotStarted("repository.call", observationRegistry.get())
+                .contextualName(repositoryName + "." + method)
+                .lowCardinalityKeyValue("repository", repositoryName)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked(invocation::proceed);
+    }
+}
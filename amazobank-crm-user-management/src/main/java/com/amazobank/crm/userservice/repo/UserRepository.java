@@ -4,18 +4,24 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.http.HttpStatus;
 
 import com.amazobank.crm.userservice.domain.User;
 import com.amazobank.crm.userservice.domain.User.Status;
 
 public interface UserRepository extends JpaRepository<User, String> {
-    @Query("SELECT u FROM User u WHERE u.email = ?1 AND u.userStatus = 'Active'")
-    Optional<User> findByEmail(String email);
-    
-    @Query("SELECT u FROM User u WHERE u.userId = ?1 AND u.userStatus = 'Active'")
-    Optional<User> findByUserId(String userId);
+    // Statuses are stored as codes, so they are bound as parameters rather than written as JPQL literals.
+    Optional<User> findByEmailAndUserStatus(String email, Status userStatus);
+
+    Optional<User> findByUserIdAndUserStatus(String userId, Status userStatus);
+
+    default Optional<User> findByEmail(String email) {
+        return findByEmailAndUserStatus(email, Status.Active);
+    }
+
+    default Optional<User> findByUserId(String userId) {
+        return findByUserIdAndUserStatus(userId, Status.Active);
+    }
     
     default Optional<Map.Entry<HttpStatus, String>> deleteById(User.Role deleterRole, String id) {
         var result = findById(id);
@@ -1,5 +1,8 @@
 package com.amazobank.crm.userservice.security;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -12,13 +15,19 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtDecoders;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -26,6 +35,18 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}")
     private String issuerUri;
 
+    @Value("${security.jwt.jwks.bootstrap-file:}")
+    private String jwksBootstrapFile;
+
+    @Value("${security.jwt.jwks.refresh-interval:PT1H}")
+    private Duration jwksRefreshInterval;
+
+    @Value("${security.jwt.jwks.min-refresh-interval:PT30S}")
+    private Duration jwksMinRefreshInterval;
+
+    @Value("${security.jwt.jwks.timeout:PT3S}")
+    private Duration jwksTimeout;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -39,7 +60,6 @@ public class SecurityConfig {
             )
             .oauth2ResourceServer(oauth2 -> oauth2
                 .jwt(jwt -> jwt
-                    .jwkSetUri(issuerUri)
                     .jwtAuthenticationConverter(jwtAuthenticationConverter())
                     .decoder(jwtDecoder())
                 )
@@ -61,12 +81,31 @@ public class SecurityConfig {
         return source;
     }
 
+    @Bean(destroyMethod = "close")
+    public PreloadedJwkSource jwkSource() {
+        // Cognito publishes its keys at a fixed location under the issuer, so no OIDC discovery
+        // round trip is needed while the Lambda context starts.
+        PreloadedJwkSource source = new PreloadedJwkSource(
+                URI.create(issuerUri + "/.well-known/jwks.json"),
+                jwksBootstrapFile.isBlank() ? null : Path.of(jwksBootstrapFile),
+                jwksRefreshInterval,
+                jwksMinRefreshInterval,
+                jwksTimeout,
+                kids -> {});
+        source.start();
+        return source;
+    }
+
     @Bean
     public JwtDecoder jwtDecoder() {
-        // Configure the JWT decoder using the issuer URI.
-        // Spring Security will automatically discover the JWK Set URI from the issuer URI.
-        // Ensure the issuerUri is correctly configured in application.properties.
-        return JwtDecoders.fromIssuerLocation(issuerUri);
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource()));
+        // Claims are validated by Spring below, not by Nimbus.
+        processor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        return decoder;
     }
 
     @Bean
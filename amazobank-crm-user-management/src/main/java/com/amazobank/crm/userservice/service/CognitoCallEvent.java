@@ -0,0 +1,21 @@
+package com.amazobank.crm.userservice.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("amazobank.CognitoCall")
+@Label("Cognito Call")
+@Description("An admin API call to the Cognito user pool")
+@Category({"Amazobank", "Cognito"})
+@StackTrace(false)
+public class CognitoCallEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Failed")
+    public boolean failed;
+}
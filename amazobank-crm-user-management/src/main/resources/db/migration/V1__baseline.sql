@@ -0,0 +1,13 @@
+-- Baseline of the User table. IF NOT EXISTS, so on a database that predates migrations this is a no-op;
+-- Flyway baselines such databases at version 0.
+
+CREATE TABLE IF NOT EXISTS `User` (
+    UserID VARCHAR(36) NOT NULL,
+    FirstName VARCHAR(50) NOT NULL,
+    LastName VARCHAR(50) NOT NULL,
+    Email VARCHAR(100) NOT NULL,
+    Role VARCHAR(10) NOT NULL,
+    UserStatus VARCHAR(10) NOT NULL,
+    PRIMARY KEY (UserID),
+    UNIQUE INDEX UkUserEmail (Email)
+);
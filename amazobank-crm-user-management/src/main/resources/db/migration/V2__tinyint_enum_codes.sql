@@ -0,0 +1,18 @@
+-- Role and UserStatus move from their enum names to the TINYINT codes declared on User.Role and
+-- User.Status. Each column is copied, dropped and renamed.
+--   Role:       1 Agent, 2 Admin, 3 SuperAdmin
+--   UserStatus: 1 Active, 2 Disabled
+
+ALTER TABLE `User` ADD COLUMN RoleCode TINYINT NULL;
+UPDATE `User` SET RoleCode = CASE Role
+    WHEN 'Agent' THEN 1 WHEN 'Admin' THEN 2 WHEN 'SuperAdmin' THEN 3 END;
+ALTER TABLE `User` DROP COLUMN Role;
+ALTER TABLE `User` RENAME COLUMN RoleCode TO Role;
+ALTER TABLE `User` MODIFY COLUMN Role TINYINT NOT NULL;
+
+ALTER TABLE `User` ADD COLUMN UserStatusCode TINYINT NULL;
+UPDATE `User` SET UserStatusCode = CASE UserStatus
+    WHEN 'Active' THEN 1 WHEN 'Disabled' THEN 2 END;
+ALTER TABLE `User` DROP COLUMN UserStatus;
+ALTER TABLE `User` RENAME COLUMN UserStatusCode TO UserStatus;
+ALTER TABLE `User` MODIFY COLUMN UserStatus TINYINT NOT NULL;
@@ -49,6 +49,9 @@ interface Client {
   clientStatus?: "Active" | "Deleted" | string
 }
 
+// A GET /api/clients list entry; the full Client is loaded by id before editing.
+type ClientSummary = Pick<Client, "clientId" | "agentId" | "firstName" | "lastName" | "email" | "phoneNumber" | "verificationStatus" | "clientStatus">
+
 interface Account {
   accountId: string
   clientId: string
@@ -109,7 +112,7 @@ function ClientsPageContent() {
   const searchParams = useSearchParams()
   const clientId = searchParams.get("id")
 
-  const [clients, setClients] = useState<Client[]>([])
+  const [clients, setClients] = useState<ClientSummary[]>([])
   const [selectedClient, setSelectedClient] = useState<Client | null>(null)
   const [accounts, setAccounts] = useState<Account[]>([])
   const [transactions, setTransactions] = useState<Transaction[]>([])
@@ -318,6 +321,19 @@ function ClientsPageContent() {
     }
   }
 
+  // The list carries only the Clients row, so load the full profile before filling the form.
+  const handleEdit = async (id: string) => {
+    try {
+      const client: Client = await fetchClientById(id)
+      setEditingClient(client)
+      const { agentId, clientId, ...clientData } = client
+      setFormData(clientData)
+      setIsDialogOpen(true)
+    } catch (err) {
+      console.error("Error loading client:", err)
+    }
+  }
+
   const handleDelete = async (id: string) => {
     try {
       await deleteClient(id)
@@ -736,12 +752,7 @@ function ClientsPageContent() {
                             <p className="text-xs text-muted-foreground">{client.email} • {client.phoneNumber}</p>
                           </div>
                           <div className="flex gap-2">
-                            <Button variant="ghost" size="sm" onClick={() => {
-                              setEditingClient(client)
-                              const { agentId, clientId, ...clientData } = client
-                              setFormData(clientData)
-                              setIsDialogOpen(true)
-                            }}><Edit className="h-4 w-4" /></Button>
+                            <Button variant="ghost" size="sm" onClick={() => handleEdit(client.clientId)}><Edit className="h-4 w-4" /></Button>
                             <AlertDialog>
                               <AlertDialogTrigger asChild><Button variant="ghost" size="sm"><Trash2 className="h-4 w-4" /></Button></AlertDialogTrigger>
                               <AlertDialogContent>